@@ -56,6 +56,10 @@ public class CommandHeader {
         return fields.get(HeaderFields.COMMAND_CODE);
     }
 
+    public int getLength() {
+        return fields.get(HeaderFields.LENGTH);
+    }
+
     public int getId() {
         return fields.get(HeaderFields.ID);
     }
@@ -55,7 +55,7 @@ import static com.intel.bkp.ext.utils.ByteSwapOrder.L2B;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommandHeaderManager {
 
-    private static final int COMMAND_HEADER_LEN = Integer.BYTES;
+    public static final int COMMAND_HEADER_LEN = Integer.BYTES;
     private static final int COMMAND_HEADER_LEN_BITS = COMMAND_HEADER_LEN * Byte.SIZE;
     private static final String COMMAND_HEADER_NOT_SET = "Command header is not set.";
     private static final String COMMAND_HEADER_INVALID_LENGTH = "Command header length is '%d', but should be '%d'.";
@@ -115,6 +115,27 @@ public class CommandHeaderManager {
         }
     }
 
+    /**
+     * Calculates length of whole response, including header, based on arguments length set in its header.
+     *
+     * @param response response bytes starting with command header
+     * @return expected response length in bytes
+     */
+    public static int getResponseLength(byte[] response) {
+        try {
+            if (response.length < COMMAND_HEADER_LEN) {
+                throw new CommandHeaderValidationException("No command header in response.");
+            }
+
+            byte[] header = new byte[COMMAND_HEADER_LEN];
+            ByteBufferSafe.wrap(response).get(header);
+
+            return COMMAND_HEADER_LEN + CommandHeaderManager.parseFromFw(header).getLength() * Integer.BYTES;
+        } catch (CommandHeaderValidationException e) {
+            throw new JtagResponseException("Failed to parse response length from command header.");
+        }
+    }
+
     private static void verifyCommandHeaderLength(int length) throws CommandHeaderValidationException {
         if (length != COMMAND_HEADER_LEN) {
             throw new CommandHeaderValidationException(
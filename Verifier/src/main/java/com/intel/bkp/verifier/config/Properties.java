@@ -40,6 +40,8 @@ public class Properties {
     public static final String DISTRIBUTION_POINT_GROUP = "distribution-point";
     public static final String TRUSTED_ROOT_HASH_GROUP = "trusted-root-hash";
     public static final String PROXY_GROUP = "proxy";
+    public static final String CERTIFICATE_CACHE_GROUP = "certificate-cache";
+    public static final String CRL_CACHE_GROUP = "crl-cache";
     public static final String PROVIDER_PARAMS_GROUP = "security-provider-params";
     public static final String VERIFIER_KEY_PARAMS_GROUP = "verifier-key-params";
     public static final String VERIFIER_KEY_CHAIN_GROUP = "verifier-root-qky-chain";
@@ -54,6 +56,20 @@ public class Properties {
     public static final String DISTRIBUTION_POINT_DICE_TRUSTED_ROOT = "dice";
     public static final String DISTRIBUTION_POINT_PROXY_HOST = "host";
     public static final String DISTRIBUTION_POINT_PROXY_PORT = "port";
+    public static final String DISTRIBUTION_POINT_MIRROR_PATH = "mirror-path";
+    public static final String DISTRIBUTION_POINT_TRUST_STORE_PATH = "trust-store-path";
+
+    public static final String CACHE_MEMORY_SIZE = "memory-size";
+    public static final String CACHE_TTL_SECONDS = "ttl-seconds";
+    public static final String CACHE_NEGATIVE_TTL_SECONDS = "negative-ttl-seconds";
+    public static final String CACHE_PARSE_CACHE_SIZE = "parse-cache-size";
+    public static final String CACHE_DIRECTORY = "directory";
+    public static final String CACHE_GRACE_PERIOD_SECONDS = "grace-period-seconds";
+    public static final String CACHE_BACKGROUND_REFRESH = "background-refresh";
+    public static final String CACHE_REVALIDATION_TTL_SECONDS = "revalidation-ttl-seconds";
+
+    public static final String DATABASE_READ_CONNECTIONS = "read-connections";
+    public static final String DATABASE_BUSY_TIMEOUT_MILLIS = "busy-timeout-millis";
 
     public static final String VERIFIER_KEY_PARAMS_SINGLE_ROOT_QKY_CHAIN_PATH = "single-chain-path";
     public static final String VERIFIER_KEY_PARAMS_MULTI_ROOT_QKY_CHAIN_PATH = "multi-chain-path";
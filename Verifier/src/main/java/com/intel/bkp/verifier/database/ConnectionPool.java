@@ -0,0 +1,130 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.DbUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounded pool of connections to the same database. Connections are opened lazily up to given size - when all of them
+ * are in use, callers wait until one is released.
+ */
+@Slf4j
+public class ConnectionPool implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection open() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface ConnectionCallback<T> {
+
+        T apply(Connection connection) throws SQLException;
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final Semaphore permits;
+    private final Queue<Connection> idle = new ConcurrentLinkedQueue<>();
+    private final List<Connection> opened = new CopyOnWriteArrayList<>();
+
+    public ConnectionPool(ConnectionFactory connectionFactory, int size) {
+        this.connectionFactory = connectionFactory;
+        this.permits = new Semaphore(Math.max(1, size), true);
+    }
+
+    /**
+     * Runs callback with connection borrowed from the pool. Connection is used by single caller at a time and returned
+     * to the pool when callback ends.
+     */
+    public <T> T withConnection(ConnectionCallback<T> callback) throws SQLException {
+        final Connection connection = borrow();
+        try {
+            return callback.apply(connection);
+        } finally {
+            release(connection);
+        }
+    }
+
+    public int getOpenedCount() {
+        return opened.size();
+    }
+
+    @Override
+    public void close() {
+        opened.forEach(DbUtils::closeQuietly);
+        opened.clear();
+        idle.clear();
+    }
+
+    private Connection borrow() throws SQLException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for database connection.", e);
+        }
+
+        try {
+            Connection connection;
+            while ((connection = idle.poll()) != null) {
+                if (!connection.isClosed()) {
+                    return connection;
+                }
+                opened.remove(connection);
+            }
+            log.debug("Opening pooled database connection.");
+            connection = connectionFactory.open();
+            opened.add(connection);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(Connection connection) {
+        idle.offer(connection);
+        permits.release();
+    }
+}
@@ -39,18 +39,26 @@ import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.DbUtils;
+import org.sqlite.SQLiteConfig;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 
+/**
+ * Provides single connection used for schema migrations and writes, and pool of connections used for reads, so that
+ * concurrent sessions can read cache while another one writes. Database is opened in write-ahead logging mode, in
+ * which readers do not block writer and writer does not block readers.
+ */
 @Slf4j
 @NoArgsConstructor
 public class DatabaseManager {
 
     private static final String DATABASE_NAME = "verifier_core.sqlite";
 
-    private static Connection connection;
+    private Connection connection;
+    private ConnectionPool readConnectionPool;
 
     private DatabaseConfiguration dbConfig = new DatabaseConfiguration();
 
@@ -58,10 +66,10 @@ public class DatabaseManager {
         this.dbConfig = dbConfig;
     }
 
-    public Connection getConnection() throws DatabaseException {
+    public synchronized Connection getConnection() throws DatabaseException {
         try {
             if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(getJdbcUrl());
+                connection = openConnection();
             }
         } catch (Exception e) {
             throw new DatabaseException("Failed to initialize database connection", e);
@@ -69,6 +77,13 @@ public class DatabaseManager {
         return connection;
     }
 
+    public synchronized ConnectionPool getReadConnectionPool() {
+        if (readConnectionPool == null) {
+            readConnectionPool = new ConnectionPool(this::openConnection, dbConfig.getReadConnections());
+        }
+        return readConnectionPool;
+    }
+
     @SneakyThrows
     public String getJdbcUrl() {
         final String url;
@@ -81,7 +96,24 @@ public class DatabaseManager {
         return "jdbc:sqlite:" + url;
     }
 
-    public void closeDatabase() {
+    public synchronized void closeDatabase() {
+        if (readConnectionPool != null) {
+            readConnectionPool.close();
+            readConnectionPool = null;
+        }
         DbUtils.closeQuietly(connection);
+        connection = null;
+    }
+
+    SQLiteConfig getSqliteConfig() {
+        final SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setBusyTimeout(dbConfig.getBusyTimeoutMillis());
+        return config;
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(getJdbcUrl(), getSqliteConfig().toProperties());
     }
 }
@@ -72,8 +72,10 @@ public class SQLiteHelper implements AutoCloseable {
     public SQLiteHelper(DatabaseConfiguration dbConfig) {
         this.databaseManager = new DatabaseManager(dbConfig);
         this.connection = databaseManager.getConnection();
-        this.s10CacheEntityService = new S10CacheEntityService(connection);
-        this.diceRevocationCacheEntityService = new DiceRevocationCacheEntityService(connection);
+        this.s10CacheEntityService = new S10CacheEntityService(connection,
+            databaseManager.getReadConnectionPool());
+        this.diceRevocationCacheEntityService = new DiceRevocationCacheEntityService(connection,
+            databaseManager.getReadConnectionPool());
 
         entityServices = Map.of(
             S10, s10CacheEntityService,
@@ -89,6 +91,8 @@ public class SQLiteHelper implements AutoCloseable {
 
     @Override
     public void close() throws Exception {
+        s10CacheEntityService.close();
+        diceRevocationCacheEntityService.close();
         databaseManager.closeDatabase();
         s10CacheEntityService = null;
         diceRevocationCacheEntityService = null;
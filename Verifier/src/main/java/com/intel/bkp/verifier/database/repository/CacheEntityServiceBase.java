@@ -33,31 +33,93 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intel.bkp.verifier.database.ConnectionPool;
 import com.intel.bkp.verifier.exceptions.DatabaseException;
 import com.intel.bkp.verifier.interfaces.IMigratable;
 import com.intel.bkp.verifier.interfaces.ITableDefinition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.dbutils.BasicRowProcessor;
+import org.apache.commons.dbutils.DbUtils;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowProcessor;
+import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.ScalarHandler;
+import org.apache.commons.lang3.StringUtils;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.intel.bkp.ext.utils.HexConverter.fromHex;
+import static com.intel.bkp.ext.utils.HexConverter.toHex;
 import static com.intel.bkp.verifier.database.table.SQLiteChangelog.fromOrdinal;
 
 @Slf4j
 @RequiredArgsConstructor
-public abstract class CacheEntityServiceBase implements IMigratable {
+public abstract class CacheEntityServiceBase<T> implements IMigratable, AutoCloseable {
 
+    static final int MAX_CACHED_ENTITIES = 4096;
+    static final int BATCH_SIZE = 500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final RowProcessor ROW_PROCESSOR = new BasicRowProcessor();
+
+    // used by migrations and writes - SQLite allows single writer at a time anyway
     protected final Connection connection;
+    // used by reads, so that concurrent sessions do not wait for each other nor for writer
+    protected final ConnectionPool readConnectionPool;
     protected final ITableDefinition tableDefinition;
     protected final QueryRunner runner = new QueryRunner();
     protected final ScalarHandler<Integer> scalarHandler = new ScalarHandler<>();
 
+    // connection is used by single caller at a time, so its statement is too
+    private final Map<Connection, PreparedStatement> selectByKeyStatements = new ConcurrentHashMap<>();
+
+    // entities recently read or stored, keyed by 8-byte device id - rows that do not exist are not cached, so that
+    // rows written meanwhile by other process or other service instance are found by next read;
+    // entities are mutable beans, so cache keeps its own copies and gives out copies of them
+    private final Map<Long, T> entities = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, T> eldest) {
+            return size() > MAX_CACHED_ENTITIES;
+        }
+    };
+    // incremented on each invalidation, so that rows read before it are not cached after it
+    private long generation;
+
+    protected abstract Class<T> getEntityType();
+
+    protected abstract String getDeviceId(T entity);
+
+    protected abstract Object[] getParams(T entity);
+
+    protected abstract T copy(T entity);
+
     @Override
     public void migrate(int oldVersion, int newVersion) {
         for (int currMigrationVersion = oldVersion; currMigrationVersion < newVersion; currMigrationVersion++) {
@@ -80,19 +142,246 @@ public abstract class CacheEntityServiceBase implements IMigratable {
         }
     }
 
-    protected <T> T select(ResultSetHandler<T> handler) throws DatabaseException {
+    protected <R> R select(ResultSetHandler<R> handler) throws DatabaseException {
         try {
-            return runner.query(connection, tableDefinition.getSelectSQL(), handler);
+            return readConnectionPool.withConnection(readConnection ->
+                runner.query(readConnection, tableDefinition.getSelectSQL(), handler));
         } catch (SQLException e) {
             throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
         }
     }
 
+    /**
+     * Selects rows with given primary key, using prepared statement that is reused by subsequent lookups on the same
+     * read connection.
+     */
+    protected <R> R selectByKey(String key, ResultSetHandler<R> handler) throws DatabaseException {
+        try {
+            return readConnectionPool.withConnection(readConnection -> {
+                final PreparedStatement statement = getSelectByKeyStatement(readConnection);
+                statement.setString(1, key);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return handler.handle(resultSet);
+                }
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    /**
+     * Reads entity of given device from memory, or from database when it is not cached yet.
+     */
+    protected Optional<T> readByDeviceId(byte[] deviceId) throws DatabaseException {
+        final Optional<Long> cacheKey = toCacheKey(deviceId);
+        final long readGeneration;
+        synchronized (entities) {
+            final T cached = cacheKey.isPresent() ? entities.get(cacheKey.get()) : null;
+            if (cached != null) {
+                return Optional.of(copy(cached));
+            }
+            readGeneration = generation;
+        }
+
+        final Optional<T> entity = Optional.ofNullable(
+            selectByKey(toHex(deviceId), new BeanHandler<>(getEntityType(), ROW_PROCESSOR)));
+        if (cacheKey.isPresent() && entity.isPresent()) {
+            synchronized (entities) {
+                // entity stored meanwhile is newer than the one just read
+                if (readGeneration == generation) {
+                    entities.putIfAbsent(cacheKey.get(), copy(entity.get()));
+                }
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Inserts or replaces entity of given device in database and in memory.
+     */
+    protected void storeByDeviceId(T entity) throws DatabaseException {
+        final Optional<Long> cacheKey = toCacheKey(getDeviceId(entity));
+        cacheKey.ifPresent(key -> invalidate(Set.of(key)));
+        insert(getParams(entity));
+        cacheKey.ifPresent(key -> {
+            synchronized (entities) {
+                entities.put(key, copy(entity));
+            }
+        });
+    }
+
+    /**
+     * Inserts or replaces all entities in single transaction, using batched statements. Either all of them are stored
+     * or none is.
+     *
+     * @return number of stored entities
+     */
+    public int storeAll(Collection<T> entitiesToStore) throws DatabaseException {
+        return storeAll(entitiesToStore.iterator());
+    }
+
+    /**
+     * Writes all entities from database to stream, as JSON object per line (NDJSON). Stream is not closed.
+     *
+     * @return number of exported entities
+     */
+    public int exportTo(OutputStream outputStream) throws DatabaseException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            final int count = select(resultSet -> {
+                int exported = 0;
+                while (resultSet.next()) {
+                    writeLine(writer, ROW_PROCESSOR.toBean(resultSet, getEntityType()));
+                    exported++;
+                }
+                return exported;
+            });
+            writer.flush();
+            log.debug("Exported {} entities from: {}", count, tableDefinition.getTableName());
+            return count;
+        } catch (IOException | UncheckedIOException e) {
+            throw new DatabaseException("Failed to export from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    /**
+     * Reads entities from stream in format written by {@link #exportTo(OutputStream)} and stores them in single
+     * transaction - entities are parsed while being inserted, so stream of any size can be imported. Stream is not
+     * closed.
+     *
+     * @return number of imported entities
+     */
+    public int importFrom(InputStream inputStream) throws DatabaseException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        try {
+            final Iterator<T> parsed = reader.lines()
+                .filter(StringUtils::isNotBlank)
+                .map(this::parseLine)
+                .iterator();
+            final int count = storeAll(parsed);
+            log.debug("Imported {} entities into: {}", count, tableDefinition.getTableName());
+            return count;
+        } catch (UncheckedIOException e) {
+            throw new DatabaseException("Failed to import into: " + tableDefinition.getTableName(), e);
+        }
+    }
+
     protected void insert(Object[] params) throws DatabaseException {
         try {
-            runner.insert(connection, tableDefinition.getInsertSQL(), scalarHandler, params);
+            synchronized (connection) {
+                runner.insert(connection, tableDefinition.getInsertSQL(), scalarHandler, params);
+            }
         } catch (SQLException e) {
             throw new DatabaseException("Failed to create row in: " + tableDefinition.getTableName(), e);
         }
     }
+
+    @Override
+    public void close() {
+        selectByKeyStatements.values().forEach(DbUtils::closeQuietly);
+        selectByKeyStatements.clear();
+        synchronized (entities) {
+            entities.clear();
+        }
+    }
+
+    private int storeAll(Iterator<T> entitiesToStore) throws DatabaseException {
+        // keys of stored entities, unless there are more of them than cached entities - then whole cache is dropped
+        final Set<Long> storedKeys = new HashSet<>();
+        boolean tooManyToInvalidate = false;
+        int count = 0;
+
+        synchronized (connection) {
+            try {
+                final boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement statement = connection.prepareStatement(tableDefinition.getInsertSQL())) {
+                    while (entitiesToStore.hasNext()) {
+                        final T entity = entitiesToStore.next();
+                        final Object[] params = getParams(entity);
+                        for (int i = 0; i < params.length; i++) {
+                            statement.setObject(i + 1, params[i]);
+                        }
+                        statement.addBatch();
+                        if (++count % BATCH_SIZE == 0) {
+                            statement.executeBatch();
+                        }
+
+                        if (!tooManyToInvalidate) {
+                            toCacheKey(getDeviceId(entity)).ifPresent(storedKeys::add);
+                            tooManyToInvalidate = storedKeys.size() > MAX_CACHED_ENTITIES;
+                        }
+                    }
+                    statement.executeBatch();
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException e) {
+                throw new DatabaseException("Failed to create rows in: " + tableDefinition.getTableName(), e);
+            }
+        }
+
+        invalidate(tooManyToInvalidate ? null : storedKeys);
+        log.debug("Stored {} entities in: {}", count, tableDefinition.getTableName());
+        return count;
+    }
+
+    /**
+     * Removes given keys from cache, or all keys if null is given.
+     */
+    private void invalidate(Set<Long> keys) {
+        synchronized (entities) {
+            generation++;
+            if (keys == null) {
+                entities.clear();
+            } else {
+                entities.keySet().removeAll(keys);
+            }
+        }
+    }
+
+    private T parseLine(String line) {
+        try {
+            return MAPPER.readValue(line, getEntityType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(Writer writer, Object entity) {
+        try {
+            writer.write(MAPPER.writeValueAsString(entity));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<Long> toCacheKey(byte[] deviceId) {
+        return Optional.ofNullable(deviceId)
+            .filter(id -> id.length == Long.BYTES)
+            .map(id -> ByteBuffer.wrap(id).getLong());
+    }
+
+    private static Optional<Long> toCacheKey(String deviceIdHex) {
+        try {
+            return Optional.ofNullable(deviceIdHex)
+                .flatMap(hex -> toCacheKey(fromHex(hex)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private PreparedStatement getSelectByKeyStatement(Connection readConnection) throws SQLException {
+        PreparedStatement statement = selectByKeyStatements.get(readConnection);
+        if (statement == null || statement.isClosed()) {
+            statement = readConnection.prepareStatement(tableDefinition.getSelectByKeySQL());
+            selectByKeyStatements.put(readConnection, statement);
+        }
+        return statement;
+    }
 }
@@ -33,10 +33,10 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.intel.bkp.verifier.database.ConnectionPool;
 import com.intel.bkp.verifier.database.model.DiceRevocationCacheEntity;
 import com.intel.bkp.verifier.database.table.DiceTableDefinition;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 import java.sql.Connection;
 import java.util.Optional;
@@ -44,36 +44,43 @@ import java.util.Optional;
 import static com.intel.bkp.ext.utils.HexConverter.toHex;
 
 @Slf4j
-public class DiceRevocationCacheEntityService extends CacheEntityServiceBase {
+public class DiceRevocationCacheEntityService extends CacheEntityServiceBase<DiceRevocationCacheEntity> {
 
-    public DiceRevocationCacheEntityService(Connection connection) {
-        super(connection, new DiceTableDefinition());
+    public DiceRevocationCacheEntityService(Connection connection, ConnectionPool readConnectionPool) {
+        super(connection, readConnectionPool, new DiceTableDefinition());
     }
 
     public DiceRevocationCacheEntityService store(DiceRevocationCacheEntity entity) {
         log.debug("Insert entity for deviceId: {}", entity.getDeviceId());
-        insert(getParams(entity));
+        storeByDeviceId(entity);
         return this;
     }
 
     public Optional<DiceRevocationCacheEntity> read(byte[] deviceId) {
-        final String deviceIdHex = toHex(deviceId);
-        log.debug("Reading cached entity for deviceId: {}", deviceIdHex);
+        log.debug("Reading cached entity for deviceId: {}", toHex(deviceId));
+        return readByDeviceId(deviceId);
+    }
+
+    @Override
+    protected Class<DiceRevocationCacheEntity> getEntityType() {
+        return DiceRevocationCacheEntity.class;
+    }
 
-        return select(getResultsHandler())
-            .stream()
-            .filter(entity -> entity.getDeviceId().equals(deviceIdHex))
-            .findFirst();
+    @Override
+    protected String getDeviceId(DiceRevocationCacheEntity entity) {
+        return entity.getDeviceId();
     }
 
-    private Object[] getParams(DiceRevocationCacheEntity entity) {
+    @Override
+    protected Object[] getParams(DiceRevocationCacheEntity entity) {
         return new Object[] {
             entity.getDeviceId(),
             entity.getRevoked()
         };
     }
 
-    private BeanListHandler<DiceRevocationCacheEntity> getResultsHandler() {
-        return new BeanListHandler<>(DiceRevocationCacheEntity.class);
+    @Override
+    protected DiceRevocationCacheEntity copy(DiceRevocationCacheEntity entity) {
+        return new DiceRevocationCacheEntity(entity.getDeviceId(), entity.getRevoked());
     }
 }
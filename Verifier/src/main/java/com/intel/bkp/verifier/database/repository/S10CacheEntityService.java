@@ -33,10 +33,10 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.intel.bkp.verifier.database.ConnectionPool;
 import com.intel.bkp.verifier.database.model.S10CacheEntity;
 import com.intel.bkp.verifier.database.table.S10TableDefinition;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 import java.sql.Connection;
 import java.util.Optional;
@@ -44,29 +44,35 @@ import java.util.Optional;
 import static com.intel.bkp.ext.utils.HexConverter.toHex;
 
 @Slf4j
-public class S10CacheEntityService extends CacheEntityServiceBase {
+public class S10CacheEntityService extends CacheEntityServiceBase<S10CacheEntity> {
 
-    public S10CacheEntityService(Connection connection) {
-        super(connection, new S10TableDefinition());
+    public S10CacheEntityService(Connection connection, ConnectionPool readConnectionPool) {
+        super(connection, readConnectionPool, new S10TableDefinition());
     }
 
     public S10CacheEntityService store(S10CacheEntity entity) {
         log.debug("Insert entity for deviceId: {}", entity.getDeviceId());
-        insert(getParams(entity));
+        storeByDeviceId(entity);
         return this;
     }
 
     public Optional<S10CacheEntity> read(byte[] deviceId) {
-        final String deviceIdHex = toHex(deviceId);
-        log.debug("Reading cached entity for deviceId: {}", deviceIdHex);
+        log.debug("Reading cached entity for deviceId: {}", toHex(deviceId));
+        return readByDeviceId(deviceId);
+    }
+
+    @Override
+    protected Class<S10CacheEntity> getEntityType() {
+        return S10CacheEntity.class;
+    }
 
-        return select(getResultsHandler())
-            .stream()
-            .filter(entity -> entity.getDeviceId().equals(deviceIdHex))
-            .findFirst();
+    @Override
+    protected String getDeviceId(S10CacheEntity entity) {
+        return entity.getDeviceId();
     }
 
-    private Object[] getParams(S10CacheEntity entity) {
+    @Override
+    protected Object[] getParams(S10CacheEntity entity) {
         return new Object[] {
             entity.getDeviceId(),
             entity.getContext(),
@@ -76,7 +82,9 @@ public class S10CacheEntityService extends CacheEntityServiceBase {
         };
     }
 
-    private BeanListHandler<S10CacheEntity> getResultsHandler() {
-        return new BeanListHandler<>(S10CacheEntity.class);
+    @Override
+    protected S10CacheEntity copy(S10CacheEntity entity) {
+        return new S10CacheEntity(entity.getDeviceId(), entity.getContext(), entity.getCounter(),
+            entity.getPufType(), entity.getAlias());
     }
 }
@@ -75,6 +75,11 @@ public final class DiceTableDefinition extends TableDefinitionBase {
         return Columns.getColumnLength();
     }
 
+    @Override
+    protected String getKeyColumnName() {
+        return UID.getColName();
+    }
+
     @AllArgsConstructor
     enum Columns {
         UID("deviceid"),
@@ -84,6 +84,11 @@ public final class S10TableDefinition extends TableDefinitionBase {
         return Columns.getColumnLength();
     }
 
+    @Override
+    protected String getKeyColumnName() {
+        return UID.getColName();
+    }
+
     @AllArgsConstructor
     enum Columns {
         UID("deviceid"),
@@ -0,0 +1,166 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Mirror stored as single archive file, memory mapped when opened.
+ * Archive starts with magic number and entry count, followed by index of entries (name length, name, data offset,
+ * data length) and content of entries.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArchiveMirror implements DistributionPointMirror {
+
+    static final int MAGIC = 0x44504D31;
+
+    private final ByteBuffer content;
+    private final Map<String, Entry> index;
+
+    public static ArchiveMirror open(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Distribution point mirror archive is too big: " + archive);
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new ArchiveMirror(buffer, readIndex(buffer, archive));
+        }
+    }
+
+    /**
+     * Writes archive with given entries, keyed by path relative to mirror root. Existing archive is replaced
+     * atomically.
+     */
+    public static void write(Path archive, Map<String, byte[]> entries) throws IOException {
+        final Map<String, byte[]> sorted = new TreeMap<>(entries);
+        long offset = 2 * Integer.BYTES;
+        for (String name : sorted.keySet()) {
+            offset += Short.BYTES + name.getBytes(StandardCharsets.UTF_8).length + Long.BYTES + Integer.BYTES;
+        }
+
+        final Path tempFile = Files.createTempFile(archive.toAbsolutePath().getParent(), "mirror", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, byte[]> entry : sorted.entrySet()) {
+                final byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                if (name.length > 0xFFFF) {
+                    throw new IOException("Entry name is too long: " + entry.getKey());
+                }
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeLong(offset);
+                out.writeInt(entry.getValue().length);
+                offset += entry.getValue().length;
+            }
+            for (byte[] data : sorted.values()) {
+                out.write(data);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public Optional<byte[]> get(String url) {
+        final Entry entry = index.get(DistributionPointMirror.toRelativePath(url));
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        final byte[] data = new byte[entry.getLength()];
+        final ByteBuffer view = content.duplicate();
+        view.position(entry.getOffset());
+        view.get(data);
+        return Optional.of(data);
+    }
+
+    @Override
+    public void close() {
+        // mapping cannot be released explicitly, it is released when mirror is garbage collected
+    }
+
+    private static Map<String, Entry> readIndex(ByteBuffer buffer, Path archive) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a distribution point mirror archive: " + archive);
+            }
+
+            final int count = buffer.getInt();
+            final Map<String, Entry> index = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                final byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(name);
+                final long offset = buffer.getLong();
+                final int length = buffer.getInt();
+                if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+                    throw new IOException("Corrupted distribution point mirror archive: " + archive);
+                }
+                index.put(new String(name, StandardCharsets.UTF_8), new Entry((int) offset, length));
+            }
+            return index;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted distribution point mirror archive: " + archive, e);
+        }
+    }
+
+    @Value
+    private static class Entry {
+
+        int offset;
+        int length;
+    }
+}
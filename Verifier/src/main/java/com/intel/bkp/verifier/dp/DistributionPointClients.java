@@ -0,0 +1,160 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import com.intel.bkp.verifier.model.ConcurrencyConfig;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.intel.bkp.verifier.dp.DistributionPointConnector.CONNECTION_TIMEOUT_SECONDS;
+
+/**
+ * Http clients used by {@link DistributionPointConnector}, one per proxy configuration, along with limit of requests
+ * in flight at once, executor prefetching CRLs and local mirror of the context using them. Clients are long-lived, so
+ * that kept-alive connections and TLS sessions are reused between requests. Each owner of instance (library context
+ * or VerifierExchange with custom limits) applies its own limits and releases these resources when it is closed.
+ */
+@Slf4j
+public class DistributionPointClients implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Semaphore requestPermits;
+    private final Executor executor;
+
+    private ExecutorService prefetchExecutor;
+
+    // when set, connectors using these clients read from mirror instead of network
+    @Getter
+    @Setter
+    private volatile DistributionPointMirror mirror;
+
+    public DistributionPointClients() {
+        this(ConcurrencyConfig.UNLIMITED, null);
+    }
+
+    /**
+     * @param maxConcurrentRequests max number of requests in flight at once, {@link ConcurrencyConfig#UNLIMITED}
+     *     means no limit
+     * @param executor executor used by http clients for asynchronous tasks, null means default executor
+     */
+    public DistributionPointClients(int maxConcurrentRequests, Executor executor) {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Max concurrent requests must not be negative.");
+        }
+        this.requestPermits = maxConcurrentRequests == ConcurrencyConfig.UNLIMITED
+                              ? null
+                              : new Semaphore(maxConcurrentRequests, true);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns http client for given proxy configuration, created on first use.
+     */
+    HttpClient getHttpClient(String key, ProxySelector proxy) {
+        return httpClients.computeIfAbsent(key, k -> buildHttpClient(proxy));
+    }
+
+    /**
+     * Waits until request may be sent. Every call must be followed by {@link #releasePermit()}.
+     */
+    void acquirePermit() throws InterruptedException {
+        if (requestPermits != null) {
+            requestPermits.acquire();
+        }
+    }
+
+    void releasePermit() {
+        if (requestPermits != null) {
+            requestPermits.release();
+        }
+    }
+
+    /**
+     * Returns executor downloading CRLs in background, created on first use.
+     */
+    public synchronized Executor getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "verifier-crl-prefetch-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Drops http clients, so that their connections are closed, shuts down prefetch executor and forgets mirror, which
+     * is closed by its owner. Prefetches in progress are not interrupted - their threads end when downloads complete.
+     * Resources are created again if instance is used later.
+     */
+    @Override
+    public synchronized void close() {
+        log.debug("Closing {} distribution point http clients.", httpClients.size());
+        httpClients.clear();
+        mirror = null;
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdown();
+            prefetchExecutor = null;
+        }
+    }
+
+    synchronized boolean isPrefetchExecutorRunning() {
+        return prefetchExecutor != null && !prefetchExecutor.isShutdown();
+    }
+
+    private HttpClient buildHttpClient(ProxySelector proxy) {
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .proxy(proxy)
+            .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT_SECONDS));
+        Optional.ofNullable(executor).ifPresent(builder::executor);
+        return builder.build();
+    }
+}
@@ -41,7 +41,6 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.ProxySelector;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
@@ -52,58 +51,152 @@ public class DistributionPointConnector {
 
     public static final int CONNECTION_TIMEOUT_SECONDS = 10;
     public static final int REQUEST_TIMEOUT_SECONDS = 15;
+
+    private static final String ETAG_HEADER = "ETag";
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String EXPIRES_HEADER = "Expires";
+
+    private static final DistributionPointMetrics METRICS = new DistributionPointMetrics();
+
     private final ProxySelector proxy;
+    private final String httpClientKey;
+    private final DistributionPointClients clients;
 
+    /**
+     * Creates connector with its own http clients and no limit of concurrent requests.
+     */
     public DistributionPointConnector(Proxy proxy) {
+        this(proxy, new DistributionPointClients());
+    }
+
+    /**
+     * Creates connector sending requests with given http clients and within their limit of concurrent requests, or
+     * reading from mirror of these clients if it is set.
+     */
+    public DistributionPointConnector(Proxy proxy, DistributionPointClients clients) {
         this.proxy = ProxyCallbackFactory.get(proxy.getHost(), proxy.getPort()).get();
+        this.httpClientKey = proxy.getHost() + ":" + proxy.getPort();
+        this.clients = clients;
+    }
+
+    public static DistributionPointMetrics getMetrics() {
+        return METRICS;
     }
 
     public byte[] getBytes(String url) {
-        return getHttpResponseBody(url, HttpResponse.BodyHandlers.ofByteArray());
+        return getBytes(url, HttpValidators.NONE).getBody();
     }
 
     public Optional<byte[]> tryGetBytes(String url) {
-        Optional<byte[]> responseBody = Optional.empty();
-        final HttpResponse<byte[]> response;
+        return tryGetBytes(url, HttpValidators.NONE).map(DistributionPointResponse::getBody);
+    }
+
+    /**
+     * Downloads content, unless it did not change since it was downloaded with given validators.
+     *
+     * @throws ConnectionException if request failed or content was not found
+     */
+    public DistributionPointResponse getBytes(String url, HttpValidators validators) {
+        final DistributionPointMirror currentMirror = clients.getMirror();
+        if (currentMirror != null) {
+            return getFromMirror(currentMirror, url)
+                .map(DistributionPointResponse::modified)
+                .orElseThrow(() -> new ConnectionException("Distribution point mirror does not contain: " + url));
+        }
+
         try {
-            response = tryGetHttpResponse(url, HttpResponse.BodyHandlers.ofByteArray());
-            if (HttpURLConnection.HTTP_OK == response.statusCode()) {
-                responseBody = Optional.of(response.body());
-            }
-        } catch (IOException | InterruptedException e) {
-            log.error("Failed to get http response.", e);
+            final HttpResponse<byte[]> response = tryGetHttpResponse(url, validators);
+            return toDistributionPointResponse(response)
+                .orElseThrow(() -> new ConnectionException(
+                    "Failed to make request to distribution point. Received wrong status code:"
+                        + response.statusCode()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException("Interrupted while making request to distribution point.", e);
+        } catch (IOException e) {
+            throw new ConnectionException("Failed to make request to distribution point.", e);
         }
-        return responseBody;
     }
 
-    private <T> T getHttpResponseBody(String url, HttpResponse.BodyHandler<T> bodyHandler) {
+    /**
+     * Downloads content, unless it did not change since it was downloaded with given validators.
+     *
+     * @return response, {@link DistributionPointResponse#notFound()} if distribution point does not have content,
+     *     or empty if request failed
+     */
+    public Optional<DistributionPointResponse> tryGetBytes(String url, HttpValidators validators) {
+        final DistributionPointMirror currentMirror = clients.getMirror();
+        if (currentMirror != null) {
+            return Optional.of(getFromMirror(currentMirror, url)
+                .map(DistributionPointResponse::modified)
+                .orElseGet(DistributionPointResponse::notFound));
+        }
+
         try {
-            final HttpResponse<T> response = tryGetHttpResponse(url, bodyHandler);
-            if (HttpURLConnection.HTTP_OK == response.statusCode()) {
-                return response.body();
+            final HttpResponse<byte[]> response = tryGetHttpResponse(url, validators);
+            if (HttpURLConnection.HTTP_NOT_FOUND == response.statusCode()) {
+                return Optional.of(DistributionPointResponse.notFound());
             }
-            throw new ConnectionException("Failed to make request to distribution point. Received wrong status code:"
-                + response.statusCode());
-        } catch (IOException | InterruptedException e) {
-            throw new ConnectionException("Failed to make request to distribution point.", e);
+            return toDistributionPointResponse(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for http response.", e);
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("Failed to get http response.", e);
+            return Optional.empty();
         }
     }
 
-    private <T> HttpResponse<T> tryGetHttpResponse(String url, HttpResponse.BodyHandler<T> bodyHandler)
+    private Optional<byte[]> getFromMirror(DistributionPointMirror currentMirror, String url) {
+        log.info("Reading from distribution point mirror: {}", url);
+        return currentMirror.get(url);
+    }
+
+    private Optional<DistributionPointResponse> toDistributionPointResponse(HttpResponse<byte[]> response) {
+        final HttpValidators validators = new HttpValidators(
+            response.headers().firstValue(ETAG_HEADER).orElse(null),
+            response.headers().firstValue(LAST_MODIFIED_HEADER).orElse(null));
+
+        if (HttpURLConnection.HTTP_OK == response.statusCode()) {
+            return Optional.of(DistributionPointResponse.modified(response.body(), validators));
+        }
+        if (HttpURLConnection.HTTP_NOT_MODIFIED == response.statusCode()) {
+            log.debug("Content not modified since last download: {}", response.uri());
+            final Optional<Long> freshUntil = HttpFreshness.findFreshUntil(
+                response.headers().firstValue(CACHE_CONTROL_HEADER).orElse(null),
+                response.headers().firstValue(EXPIRES_HEADER).orElse(null),
+                System.currentTimeMillis());
+            return Optional.of(DistributionPointResponse.notModified(validators, freshUntil.orElse(null)));
+        }
+        return Optional.empty();
+    }
+
+    private HttpResponse<byte[]> tryGetHttpResponse(String url, HttpValidators validators)
         throws IOException, InterruptedException {
 
-        return HttpClient.newBuilder()
-            .proxy(proxy)
-            .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT_SECONDS))
-            .build()
-            .send(getHttpRequest(url), bodyHandler);
+        clients.acquirePermit();
+        try {
+            final HttpResponse<byte[]> response = clients.getHttpClient(httpClientKey, proxy)
+                .send(getHttpRequest(url, validators), HttpResponse.BodyHandlers.ofByteArray());
+            METRICS.record(response);
+            log.debug("Distribution point metrics - {}", METRICS);
+            return response;
+        } finally {
+            clients.releasePermit();
+        }
     }
 
-    private HttpRequest getHttpRequest(String url) {
+    private HttpRequest getHttpRequest(String url, HttpValidators validators) {
         log.info("Performing request to: {}", url);
-        return HttpRequest.newBuilder(URI.create(url))
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
             .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
-            .GET()
-            .build();
+            .GET();
+        validators.findEtag().ifPresent(etag -> builder.header(IF_NONE_MATCH_HEADER, etag));
+        validators.findLastModified().ifPresent(date -> builder.header(IF_MODIFIED_SINCE_HEADER, date));
+        return builder.build();
     }
 }
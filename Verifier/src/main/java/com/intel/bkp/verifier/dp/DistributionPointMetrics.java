@@ -0,0 +1,115 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import javax.net.ssl.SSLSession;
+import java.net.HttpURLConnection;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.intel.bkp.ext.utils.HexConverter.toHex;
+
+/**
+ * Counters of requests to distribution point and of TLS sessions they were made on. Http client does not expose
+ * its connections, so reuse is measured per TLS session: request made on TLS session seen before either reused
+ * kept-alive connection or resumed session without full handshake - these two cases are not distinguished.
+ * Last {@link #MAX_TRACKED_SESSIONS} sessions are remembered, so session unused for longer is counted as new again.
+ */
+public class DistributionPointMetrics {
+
+    static final int MAX_TRACKED_SESSIONS = 1024;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong newTlsSessions = new AtomicLong();
+    private final AtomicLong requestsOnKnownTlsSessions = new AtomicLong();
+    private final Map<String, Boolean> knownTlsSessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_TRACKED_SESSIONS;
+        }
+    };
+
+    void record(HttpResponse<?> response) {
+        requests.incrementAndGet();
+        if (response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            notModifiedResponses.incrementAndGet();
+        }
+        response.sslSession().ifPresent(this::recordTlsSession);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    /**
+     * Number of TLS sessions not seen before, each established with full handshake.
+     */
+    public long getNewTlsSessions() {
+        return newTlsSessions.get();
+    }
+
+    /**
+     * Number of requests made on TLS session seen before, over kept-alive connection or resumed session.
+     */
+    public long getRequestsOnKnownTlsSessions() {
+        return requestsOnKnownTlsSessions.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests: %d, not modified responses: %d, new TLS sessions: %d, "
+                + "requests on known TLS sessions: %d",
+            getRequests(), getNotModifiedResponses(), getNewTlsSessions(), getRequestsOnKnownTlsSessions());
+    }
+
+    private void recordTlsSession(SSLSession session) {
+        final boolean known;
+        synchronized (knownTlsSessions) {
+            known = knownTlsSessions.put(toHex(session.getId()) + session.getCreationTime(), Boolean.TRUE) != null;
+        }
+
+        if (known) {
+            requestsOnKnownTlsSessions.incrementAndGet();
+        } else {
+            newTlsSessions.incrementAndGet();
+        }
+    }
+}
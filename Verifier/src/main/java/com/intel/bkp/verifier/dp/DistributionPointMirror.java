@@ -0,0 +1,76 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Local copy of distribution point content, used instead of network when distribution point is not reachable.
+ * Content of URL scheme://host/path is stored under relative path host/path.
+ */
+public interface DistributionPointMirror extends AutoCloseable {
+
+    /**
+     * Returns content stored for given url, or empty if mirror does not contain it.
+     */
+    Optional<byte[]> get(String url);
+
+    @Override
+    void close();
+
+    /**
+     * Opens mirror at given path - directory tree or archive file created by {@link DistributionPointMirrorSync}.
+     */
+    static DistributionPointMirror open(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            return new DirectoryMirror(path);
+        }
+        return ArchiveMirror.open(path);
+    }
+
+    static String toRelativePath(String url) {
+        final URI uri = URI.create(url).normalize();
+        final String host = Optional.ofNullable(uri.getHost())
+            .orElseThrow(() -> new IllegalArgumentException("Distribution point url without host: " + url));
+        final String path = Optional.ofNullable(uri.getPath()).orElse("");
+        if (path.startsWith("/..") || path.contains("/../")) {
+            throw new IllegalArgumentException("Distribution point url points outside of host: " + url);
+        }
+        return path.startsWith("/") ? host + path : host + "/" + path;
+    }
+}
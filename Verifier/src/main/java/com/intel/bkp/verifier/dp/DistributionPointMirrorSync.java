@@ -0,0 +1,169 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.model.DistributionPoint;
+import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.dice.DiceEnrollmentParams;
+import com.intel.bkp.verifier.model.dice.DiceParams;
+import com.intel.bkp.verifier.model.s10.S10Params;
+import com.intel.bkp.verifier.service.certificate.DistributionPointAddressProvider;
+import com.intel.bkp.verifier.utils.LibConfigParser;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Populates distribution point mirror with certificates of devices from inventory, along with their issuer chains
+ * and CRLs, so that attestation of these devices can run without access to distribution point.
+ *
+ * <p>Inventory is text file with one entry per line, empty lines and lines starting with # are skipped:
+ * <ul>
+ *     <li>s10,deviceId,pufType - S10 attestation certificate</li>
+ *     <li>dice,uid,ski - DeviceID certificate and, if it exists, IID UDS certificate</li>
+ *     <li>enrollment,uid,svn,ski - enrollment certificate</li>
+ *     <li>url,address - any other file from distribution point, stored as is</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DistributionPointMirrorSync {
+
+    public static final String ARCHIVE_EXTENSION = ".dpm";
+
+    private static final String CONFIG_FILE_NAME = "config.properties";
+
+    private final DistributionPointConnector connector;
+    private final DistributionPointAddressProvider addressProvider;
+    private final X509CertificateParser certificateParser;
+
+    public DistributionPointMirrorSync(DistributionPoint dp) {
+        this(new DistributionPointConnector(dp.getProxy()), new DistributionPointAddressProvider(dp.getPathCer()),
+            new X509CertificateParser());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DistributionPointMirrorSync <inventory file> "
+                + "<mirror directory or archive file with " + ARCHIVE_EXTENSION + " extension>");
+            System.exit(1);
+        }
+
+        final LibConfig libConfig = new LibConfigParser().parseConfigFile(CONFIG_FILE_NAME);
+        final Map<String, byte[]> content = new DistributionPointMirrorSync(libConfig.getDistributionPoint())
+            .fetch(Files.readAllLines(Path.of(args[0])));
+        write(Path.of(args[1]), content);
+        log.info("Stored {} files in distribution point mirror: {}", content.size(), args[1]);
+    }
+
+    /**
+     * Writes content to archive if path has {@link #ARCHIVE_EXTENSION} extension, otherwise to directory tree.
+     */
+    public static void write(Path mirror, Map<String, byte[]> content) throws IOException {
+        if (mirror.getFileName().toString().endsWith(ARCHIVE_EXTENSION)) {
+            ArchiveMirror.write(mirror, content);
+        } else {
+            DirectoryMirror.write(mirror, content);
+        }
+    }
+
+    /**
+     * Downloads files needed to attest devices from inventory.
+     *
+     * @param inventory lines of inventory file
+     * @return content of files keyed by path relative to mirror root
+     */
+    public Map<String, byte[]> fetch(List<String> inventory) {
+        final Map<String, byte[]> content = new TreeMap<>();
+        inventory.stream()
+            .map(String::trim)
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .forEach(line -> fetchEntry(line, content));
+        return content;
+    }
+
+    private void fetchEntry(String line, Map<String, byte[]> content) {
+        final String[] fields = line.split(",");
+        final String type = fields[0].trim().toLowerCase(Locale.ROOT);
+        if ("s10".equals(type) && fields.length == 3) {
+            final var s10Params = new S10Params(fields[1].trim(), fields[2].trim());
+            fetchCertificate(addressProvider.getAttestationCertFilename(s10Params), true, content);
+        } else if ("dice".equals(type) && fields.length == 3) {
+            final var diceParams = new DiceParams(fields[2].trim(), fields[1].trim());
+            fetchCertificate(addressProvider.getDeviceIdCertFilename(diceParams), true, content);
+            fetchCertificate(addressProvider.getIidUdsCertFilename(diceParams), false, content);
+        } else if ("enrollment".equals(type) && fields.length == 4) {
+            final var enrollmentParams = new DiceEnrollmentParams(fields[3].trim(), fields[2].trim(),
+                fields[1].trim());
+            fetchCertificate(addressProvider.getEnrollmentCertFilename(enrollmentParams), true, content);
+        } else if ("url".equals(type) && fields.length == 2) {
+            fetchFile(fields[1].trim(), content);
+        } else {
+            throw new IllegalArgumentException("Invalid inventory entry: " + line);
+        }
+    }
+
+    private void fetchCertificate(String url, boolean required, Map<String, byte[]> content) {
+        final String path = DistributionPointMirror.toRelativePath(url);
+        if (content.containsKey(path)) {
+            return;
+        }
+
+        final Optional<byte[]> bytes = required ? Optional.of(connector.getBytes(url)) : connector.tryGetBytes(url);
+        bytes.ifPresent(certificateBytes -> {
+            content.put(path, certificateBytes);
+            final X509Certificate certificate = certificateParser.toX509(certificateBytes);
+            certificateParser.getPathToCrlDistributionPoint(certificate).ifPresent(crlUrl -> fetchFile(crlUrl, content));
+            if (!X509CertificateUtils.isSelfSigned(certificate)) {
+                fetchCertificate(certificateParser.getPathToIssuerCertificate(certificate), true, content);
+            }
+        });
+    }
+
+    private void fetchFile(String url, Map<String, byte[]> content) {
+        content.computeIfAbsent(DistributionPointMirror.toRelativePath(url), path -> connector.getBytes(url));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Response of distribution point to conditional request - either new content, information that content did not
+ * change since it was downloaded with given validators, or that content does not exist.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class DistributionPointResponse {
+
+    private enum Status {
+        MODIFIED, NOT_MODIFIED, NOT_FOUND
+    }
+
+    @Getter(AccessLevel.NONE)
+    private final Status status;
+    private final byte[] body;
+    private final HttpValidators validators;
+    @Getter(AccessLevel.NONE)
+    private final Long freshUntil;
+
+    public static DistributionPointResponse modified(byte[] body, HttpValidators validators) {
+        return new DistributionPointResponse(Status.MODIFIED, body, validators, null);
+    }
+
+    public static DistributionPointResponse modified(byte[] body) {
+        return modified(body, HttpValidators.NONE);
+    }
+
+    public static DistributionPointResponse notModified(HttpValidators validators) {
+        return notModified(validators, null);
+    }
+
+    /**
+     * @param freshUntil time in millis until which content may be used without asking distribution point again,
+     *     null if response did not define it
+     */
+    public static DistributionPointResponse notModified(HttpValidators validators, Long freshUntil) {
+        return new DistributionPointResponse(Status.NOT_MODIFIED, null, validators, freshUntil);
+    }
+
+    public static DistributionPointResponse notFound() {
+        return new DistributionPointResponse(Status.NOT_FOUND, null, HttpValidators.NONE, null);
+    }
+
+    public Optional<Long> findFreshUntil() {
+        return Optional.ofNullable(freshUntil);
+    }
+
+    public boolean isNotModified() {
+        return status == Status.NOT_MODIFIED;
+    }
+
+    public boolean isNotFound() {
+        return status == Status.NOT_FOUND;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Determines from Cache-Control and Expires response headers until when downloaded content may be used without
+ * asking distribution point again.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HttpFreshness {
+
+    private static final String MAX_AGE = "max-age=";
+
+    /**
+     * Returns time in millis until which content is fresh. Cache-Control max-age takes precedence over Expires,
+     * and no-cache or no-store means content must always be revalidated.
+     *
+     * @return time until which content is fresh, or empty if headers do not define it
+     */
+    public static Optional<Long> findFreshUntil(String cacheControl, String expires, long now) {
+        if (cacheControl != null) {
+            for (String directive : cacheControl.split(",")) {
+                final String value = directive.trim().toLowerCase(Locale.ROOT);
+                if ("no-cache".equals(value) || "no-store".equals(value)) {
+                    return Optional.empty();
+                }
+                if (value.startsWith(MAX_AGE)) {
+                    return parseMaxAge(value.substring(MAX_AGE.length())).map(seconds -> now + seconds * 1000);
+                }
+            }
+        }
+        return Optional.ofNullable(expires).flatMap(HttpFreshness::parseExpires);
+    }
+
+    private static Optional<Long> parseMaxAge(String seconds) {
+        try {
+            return Optional.of(Long.parseLong(seconds.replace("\"", ""))).filter(value -> value >= 0);
+        } catch (NumberFormatException e) {
+            log.debug("Invalid Cache-Control max-age: {}", seconds);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Long> parseExpires(String expires) {
+        try {
+            return Optional.of(ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .toInstant().toEpochMilli());
+        } catch (DateTimeParseException e) {
+            // e.g. "0" or "-1", which mean content is already expired
+            log.debug("Invalid Expires header: {}", expires);
+            return Optional.empty();
+        }
+    }
+}
@@ -45,5 +45,7 @@ public interface ITableDefinition {
 
     String getSelectSQL();
 
+    String getSelectByKeySQL();
+
     Map<Integer, String> getMigrationQuery();
 }
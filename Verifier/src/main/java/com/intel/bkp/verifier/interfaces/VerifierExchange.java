@@ -36,6 +36,17 @@ package com.intel.bkp.verifier.interfaces;
 import com.intel.bkp.ext.core.manufacturing.model.PufType;
 import com.intel.bkp.verifier.service.dto.VerifierExchangeResponseDTO;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementations are thread-safe - single instance can be used to call methods concurrently from many threads,
+ * as long as concurrent calls use different transportId. Every call uses its own transport layer instance,
+ * while configuration, security provider and database are shared between calls.
+ * Asynchronous variants run calls on executor with bounded number of concurrent sessions and their futures never
+ * complete exceptionally - errors are reported with result codes, same as in synchronous variants.
+ */
 public interface VerifierExchange {
 
     /**
@@ -43,6 +54,7 @@ public interface VerifierExchange {
      *
      * @param transportId device identifier config for communication specific to transport layer:
      *                    "host:[HPS hostname or IP]; port:[HPS port number]"
+     *                    with optional "; timeout:[response timeout in ms]"
      *                    i.e. "host:127.0.0.1; port:50001"
      * @param context     random hex value provided as seed to SDM and cached by Verifier, max 28 bytes length
      * @param pufType     enum value constructed from parsed ordinal value
@@ -55,6 +67,7 @@ public interface VerifierExchange {
      *
      * @param transportId device identifier config for communication specific to transport layer:
      *                    "host:[HPS hostname or IP]; port:[HPS port number]"
+     *                    with optional "; timeout:[response timeout in ms]"
      *                    i.e. "host:127.0.0.1; port:50001"
      * @param refMeasurement reference evidence with policy, which describes which part of evidence received from
      *                       device should match with provided reference evidence
@@ -62,13 +75,48 @@ public interface VerifierExchange {
      */
     VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurement);
 
+    /**
+     * Get attestation of many devices at once, against the same reference evidence. Devices are attested concurrently,
+     * sharing configuration, database and caches.
+     *
+     * @param transportIds list of device identifier configs, same as in {@link #getDeviceAttestation(String, String)}
+     * @param refMeasurement reference evidence with policy, common for all devices
+     * @return DTOs in order of transportIds, each with per-phase timings
+     */
+    List<VerifierExchangeResponseDTO> getDeviceAttestations(List<String> transportIds, String refMeasurement);
+
+    /**
+     * Get attestation of many devices at once, each against its own reference evidence.
+     *
+     * @param refMeasurementByTransportId reference evidence with policy for each device identifier config
+     * @return DTOs in iteration order of the map, each with per-phase timings
+     */
+    List<VerifierExchangeResponseDTO> getDeviceAttestations(Map<String, String> refMeasurementByTransportId);
+
     /**
      * Perform health check to test chosen transfer layer implementation.
      *
      * @param transportId device identifier config for communication specific to transport layer:
      *                    "host:[HPS hostname or IP]; port:[HPS port number]"
+     *                    with optional "; timeout:[response timeout in ms]"
      *                    i.e. "host:127.0.0.1; port:50001"
      * @return result where 0 is SUCCESS, -1 is ERROR
      */
     int healthCheck(String transportId);
+
+    /**
+     * Asynchronous variant of {@link #createDeviceAttestationSubKey(String, String, PufType)}.
+     */
+    CompletableFuture<Integer> createDeviceAttestationSubKeyAsync(String transportId, String context, PufType pufType);
+
+    /**
+     * Asynchronous variant of {@link #getDeviceAttestation(String, String)}.
+     */
+    CompletableFuture<VerifierExchangeResponseDTO> getDeviceAttestationAsync(String transportId,
+                                                                             String refMeasurement);
+
+    /**
+     * Asynchronous variant of {@link #healthCheck(String)}.
+     */
+    CompletableFuture<Integer> healthCheckAsync(String transportId);
 }
@@ -0,0 +1,88 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits applied to asynchronous VerifierExchange calls.
+ */
+@Getter
+@Builder
+public class ConcurrencyConfig {
+
+    public static final int DEFAULT_MAX_CONCURRENT_SESSIONS = 32;
+    /**
+     * Value of any limit meaning that there is no limit.
+     */
+    public static final int UNLIMITED = 0;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "verifier-session-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Executor running attestation sessions. Sessions perform blocking I/O, so it should not be a ForkJoinPool.
+     */
+    @Builder.Default
+    private final Executor executor = DEFAULT_EXECUTOR;
+
+    /**
+     * Max number of sessions running at once. Calls above this limit are queued. {@link #UNLIMITED} means no limit.
+     */
+    @Builder.Default
+    private final int maxConcurrentSessions = DEFAULT_MAX_CONCURRENT_SESSIONS;
+
+    /**
+     * Max number of distribution point requests in flight at once, shared by all sessions of VerifierExchange
+     * created with this config. {@link #UNLIMITED} means no limit.
+     */
+    @Builder.Default
+    private final int maxConcurrentDistributionPointRequests = UNLIMITED;
+
+    /**
+     * Executor used by http clients connecting to distribution point of VerifierExchange created with this config.
+     * Null means default executor of http client.
+     */
+    private final Executor distributionPointExecutor;
+}
@@ -44,5 +44,10 @@ import lombok.Setter;
 @AllArgsConstructor
 public class DatabaseConfiguration {
 
+    public static final int DEFAULT_READ_CONNECTIONS = 4;
+    public static final int DEFAULT_BUSY_TIMEOUT_MILLIS = 5000;
+
     private boolean internalDatabase;
+    private int readConnections = DEFAULT_READ_CONNECTIONS;
+    private int busyTimeoutMillis = DEFAULT_BUSY_TIMEOUT_MILLIS;
 }
@@ -47,4 +47,8 @@ public class DistributionPoint {
     private String pathCer;
     private TrustedRootHash trustedRootHash;
     private Proxy proxy;
+    private CertificateCacheConfig certificateCache;
+    private CrlCacheConfig crlCache;
+    private String mirrorPath;
+    private String trustStorePath;
 }
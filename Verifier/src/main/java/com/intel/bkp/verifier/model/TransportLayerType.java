@@ -37,13 +37,30 @@ import com.intel.bkp.verifier.interfaces.TransportLayer;
 import com.intel.bkp.verifier.transport.hps.HpsTransportImpl;
 import com.intel.bkp.verifier.transport.systemconsole.SystemConsoleTransportImpl;
 import lombok.AllArgsConstructor;
-import lombok.Getter;
 
-@Getter
+import java.util.function.Supplier;
+
 @AllArgsConstructor
 public enum TransportLayerType {
-    SYSTEM_CONSOLE(new SystemConsoleTransportImpl()),
-    HPS(new HpsTransportImpl());
+    SYSTEM_CONSOLE(SystemConsoleTransportImpl::new, SystemConsoleTransportImpl::closeConnectionPool),
+    HPS(HpsTransportImpl::new, HpsTransportImpl::closeConnectionPool);
+
+    private final Supplier<TransportLayer> transportLayerFactory;
+    private final Runnable connectionPoolCloser;
+
+    /**
+     * Creates new transport layer instance, which must not be shared between concurrent sessions.
+     */
+    public TransportLayer createTransportLayer() {
+        return transportLayerFactory.get();
+    }
 
-    private TransportLayer transportLayer;
+    /**
+     * Closes idle connections kept warm by transport layers of all types.
+     */
+    public static void closeConnectionPools() {
+        for (TransportLayerType type : values()) {
+            type.connectionPoolCloser.run();
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.model;
+
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.security.MessageDigest;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.intel.bkp.ext.utils.HexConverter.fromHex;
+
+/**
+ * Trusted root certificate resolved from configured SHA-256 fingerprint, so that root verification is a comparison
+ * of bytes. If certificate with this fingerprint is available in local trust store, it is kept as well and used
+ * instead of root certificate from Distribution Point.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrustAnchor {
+
+    public static final TrustAnchor NONE = new TrustAnchor(false, new byte[0], null);
+
+    private final boolean configured;
+    private final byte[] fingerprint;
+    private final X509Certificate certificate;
+
+    public static TrustAnchor from(String trustedRootHash) {
+        if (StringUtils.isBlank(trustedRootHash)) {
+            return NONE;
+        }
+
+        try {
+            return new TrustAnchor(true, fromHex(StringUtils.remove(trustedRootHash.trim(), ':')), null);
+        } catch (IllegalArgumentException e) {
+            log.warn("Trusted root hash is not valid HEX string - no root certificate will match: {}",
+                trustedRootHash);
+            return new TrustAnchor(true, new byte[0], null);
+        }
+    }
+
+    public boolean isConfigured() {
+        return configured;
+    }
+
+    public Optional<X509Certificate> getCertificate() {
+        return Optional.ofNullable(certificate);
+    }
+
+    public boolean matches(X509Certificate rootCert) {
+        if (certificate != null && rootCert == certificate) {
+            return true;
+        }
+        return MessageDigest.isEqual(fingerprint, DiceCertificateView.of(rootCert).getFingerprint());
+    }
+
+    /**
+     * Returns anchor with certificate from trust store that has configured fingerprint, if there is one.
+     */
+    public TrustAnchor resolve(Collection<X509Certificate> trustStore) {
+        return trustStore.stream()
+            .filter(this::matches)
+            .findFirst()
+            .map(cert -> new TrustAnchor(configured, fingerprint, cert))
+            .orElse(this);
+    }
+
+    /**
+     * Returns trusted root certificate if it is issuer of given certificate.
+     */
+    public Optional<X509Certificate> findIssuerOf(X509Certificate child) {
+        return getCertificate()
+            .filter(root -> root.getSubjectX500Principal().equals(child.getIssuerX500Principal()))
+            .filter(root -> Arrays.equals(DiceCertificateView.of(root).getSubjectKeyIdentifier(),
+                DiceCertificateView.of(child).getAuthorityKeyIdentifier()));
+    }
+}
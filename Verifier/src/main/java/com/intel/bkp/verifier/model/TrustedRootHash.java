@@ -33,17 +33,42 @@
 
 package com.intel.bkp.verifier.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
+
+import java.security.cert.X509Certificate;
+import java.util.Collection;
 
 @Getter
-@Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class TrustedRootHash {
 
     private String s10;
     private String dice;
+
+    private TrustAnchor s10Anchor = TrustAnchor.NONE;
+    private TrustAnchor diceAnchor = TrustAnchor.NONE;
+
+    public TrustedRootHash(String s10, String dice) {
+        setS10(s10);
+        setDice(dice);
+    }
+
+    public void setS10(String s10) {
+        this.s10 = s10;
+        this.s10Anchor = TrustAnchor.from(s10);
+    }
+
+    public void setDice(String dice) {
+        this.dice = dice;
+        this.diceAnchor = TrustAnchor.from(dice);
+    }
+
+    /**
+     * Attaches root certificates from local trust store to trust anchors with matching fingerprints.
+     */
+    public void resolve(Collection<X509Certificate> trustStore) {
+        s10Anchor = s10Anchor.resolve(trustStore);
+        diceAnchor = diceAnchor.resolve(trustStore);
+    }
 }
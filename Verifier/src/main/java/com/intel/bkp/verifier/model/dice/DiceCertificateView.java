@@ -0,0 +1,139 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.model.dice;
+
+import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Extensions and fingerprint of single certificate, decoded lazily on first access and then reused, so that parsers
+ * and verifiers processing the same certificate do not decode its ASN.1 extensions again.
+ * Failed decoding is not remembered - the exception is thrown again on next access.
+ * View is shared by all callers, so byte arrays are returned as copies that callers may modify.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DiceCertificateView {
+
+    static final int MAX_CACHED_VIEWS = 1024;
+
+    private static final Map<X509Certificate, DiceCertificateView> VIEWS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<X509Certificate, DiceCertificateView> eldest) {
+            return size() > MAX_CACHED_VIEWS;
+        }
+    };
+
+    @Getter
+    private final X509Certificate certificate;
+
+    @Getter(lazy = true)
+    private final List<TcbInfo> tcbInfos = Collections.unmodifiableList(
+        new TcbInfoExtensionParser().decode(certificate));
+
+    @Getter(lazy = true)
+    private final UeidExtension ueidExtension = new UeidExtensionParser().decode(certificate);
+
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] sharedFingerprint = calculateFingerprint(certificate);
+
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] sharedSubjectKeyIdentifier = X509CertificateUtils.getSubjectKeyIdentifier(certificate);
+
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] sharedAuthorityKeyIdentifier = X509CertificateUtils.getAuthorityKeyIdentifier(certificate);
+
+    @Getter(lazy = true)
+    private final Optional<String> pathToIssuerCertificate =
+        X509CertificateParser.decodePathToIssuerCertificate(certificate);
+
+    @Getter(lazy = true)
+    private final Optional<String> pathToCrlDistributionPoint =
+        X509CertificateParser.decodePathToCrlDistributionPoint(certificate);
+
+    /**
+     * Returns view of certificate, shared with other callers that process the same certificate.
+     */
+    public static DiceCertificateView of(@NonNull X509Certificate certificate) {
+        synchronized (VIEWS) {
+            return VIEWS.computeIfAbsent(certificate, DiceCertificateView::new);
+        }
+    }
+
+    public byte[] getFingerprint() {
+        return copyOf(getSharedFingerprint());
+    }
+
+    public byte[] getSubjectKeyIdentifier() {
+        return copyOf(getSharedSubjectKeyIdentifier());
+    }
+
+    public byte[] getAuthorityKeyIdentifier() {
+        return copyOf(getSharedAuthorityKeyIdentifier());
+    }
+
+    /**
+     * Drops all shared views, so that certificates are decoded again on next access.
+     */
+    public static void clearViews() {
+        synchronized (VIEWS) {
+            VIEWS.clear();
+        }
+    }
+
+    private static byte[] copyOf(byte[] bytes) {
+        return bytes == null ? null : bytes.clone();
+    }
+
+    private static byte[] calculateFingerprint(X509Certificate certificate) {
+        try {
+            return DigestUtils.sha256(certificate.getEncoded());
+        } catch (CertificateEncodingException e) {
+            throw new InternalLibraryException("Failed to get bytes from X509 certificate.", e);
+        }
+    }
+}
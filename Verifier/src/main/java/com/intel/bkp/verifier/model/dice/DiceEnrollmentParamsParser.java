@@ -34,7 +34,6 @@
 package com.intel.bkp.verifier.model.dice;
 
 import com.intel.bkp.ext.core.attestation.DiceCertificateSubject;
-import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
@@ -44,7 +43,8 @@ public final class DiceEnrollmentParamsParser extends DiceParamsParserBase<DiceE
 
 
     public DiceEnrollmentParamsParser() {
-        super(X509CertificateUtils::getAuthorityKeyIdentifier, X509Certificate::getIssuerDN);
+        super(certificate -> DiceCertificateView.of(certificate).getAuthorityKeyIdentifier(),
+            X509Certificate::getIssuerDN);
     }
 
     @Override
@@ -35,6 +35,7 @@ package com.intel.bkp.verifier.model.dice;
 
 import com.intel.bkp.verifier.interfaces.ICertificateParser;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1Sequence;
@@ -59,38 +60,44 @@ public class TcbInfoExtensionParser extends BaseExtensionParser implements ICert
 
     @Override
     public void parse(X509Certificate certificate) {
-        final Optional<X509Certificate> certOptional = Optional.ofNullable(certificate);
-        certOptional.ifPresent(
-            cert -> log.debug("Parsing TcbInfo from certificate: {}", cert.getSubjectDN()));
-        parseSingleTcbInfoExtension(certOptional);
-        parseMultiTbInfoExtension(certOptional);
+        Optional.ofNullable(certificate)
+            .map(DiceCertificateView::of)
+            .map(DiceCertificateView::getTcbInfos)
+            .ifPresent(tcbInfos::addAll);
     }
 
-    private void parseMultiTbInfoExtension(Optional<X509Certificate> certOptional) {
-        certOptional
-            .map(c -> c.getExtensionValue(TCG_DICE_MULTI_TCB_INFO.getOid()))
+    List<TcbInfo> decode(@NonNull X509Certificate certificate) {
+        log.debug("Parsing TcbInfo from certificate: {}", certificate.getSubjectDN());
+        final List<TcbInfo> decoded = new ArrayList<>();
+        parseSingleTcbInfoExtension(certificate, decoded);
+        parseMultiTbInfoExtension(certificate, decoded);
+        return decoded;
+    }
+
+    private void parseMultiTbInfoExtension(X509Certificate certificate, List<TcbInfo> decoded) {
+        Optional.ofNullable(certificate.getExtensionValue(TCG_DICE_MULTI_TCB_INFO.getOid()))
             .map(this::parseExtension)
-            .ifPresent(this::parseMultiTcbInfo);
+            .ifPresent(extension -> parseMultiTcbInfo(extension, decoded));
     }
 
-    private void parseSingleTcbInfoExtension(Optional<X509Certificate> certOptional) {
-        certOptional
-            .map(c -> c.getExtensionValue(TCG_DICE_TCB_INFO.getOid()))
+    private void parseSingleTcbInfoExtension(X509Certificate certificate, List<TcbInfo> decoded) {
+        Optional.ofNullable(certificate.getExtensionValue(TCG_DICE_TCB_INFO.getOid()))
             .map(this::parseExtension)
-            .ifPresent(this::parseTcbInfo);
+            .map(this::parseTcbInfo)
+            .ifPresent(decoded::add);
     }
 
-    private void parseMultiTcbInfo(ASN1Encodable extension) {
+    private void parseMultiTcbInfo(ASN1Encodable extension, List<TcbInfo> decoded) {
         final ASN1Sequence sequence = DLSequence.getInstance(extension);
-        sequence.forEach(this::parseTcbInfo);
+        sequence.forEach(tcbInfo -> decoded.add(parseTcbInfo(tcbInfo)));
     }
 
-    private void parseTcbInfo(ASN1Encodable asn1Encodable) {
+    private TcbInfo parseTcbInfo(ASN1Encodable asn1Encodable) {
         final TcbInfo tcbInfo = new TcbInfo();
         Arrays.stream(DLSequence.getInstance(asn1Encodable).toArray())
             .map(DLTaggedObject::getInstance)
             .forEach(obj -> parseObject(obj, tcbInfo));
-        tcbInfos.add(tcbInfo);
+        return tcbInfo;
     }
 
     private void parseObject(ASN1TaggedObject asn1Encodable, TcbInfo tcbInfo) {
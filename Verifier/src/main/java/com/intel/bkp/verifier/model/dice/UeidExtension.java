@@ -41,4 +41,9 @@ public class UeidExtension {
     private final byte familyId;
     private final String familyName;
     private final byte[] uid;
+
+    // extension is shared through DiceCertificateView, so callers get their own copy
+    public byte[] getUid() {
+        return uid.clone();
+    }
 }
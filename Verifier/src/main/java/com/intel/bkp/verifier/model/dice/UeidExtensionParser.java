@@ -57,6 +57,10 @@ public class UeidExtensionParser extends BaseExtensionParser implements ICertifi
 
     @Override
     public void parse(@NonNull X509Certificate certificate) {
+        ueidExtension = DiceCertificateView.of(certificate).getUeidExtension();
+    }
+
+    UeidExtension decode(@NonNull X509Certificate certificate) {
         log.debug("Parsing UEID Extension from certificate: {}", certificate.getSubjectDN());
 
         final var familyId = new byte[1];
@@ -70,9 +74,9 @@ public class UeidExtensionParser extends BaseExtensionParser implements ICertifi
             .get(uid);
 
         final var attFamily = AttFamily.from(familyId[0]);
-        ueidExtension = new UeidExtension(attFamily.getFamilyId(), attFamily.getFamilyName(), uid);
         log.debug("Parsed UEID Extension from certificate. FAMILY_NAME = {}, UID = {}",
             attFamily.getFamilyName(), toHex(uid));
+        return new UeidExtension(attFamily.getFamilyId(), attFamily.getFamilyName(), uid);
     }
 
     private byte[] getUeidExtensionValue(final X509Certificate certificate) {
@@ -71,19 +71,18 @@ public class CreateDeviceAttestationSubKeyComponent {
     private final SigmaM2DeviceIdVerifier deviceIdVerifier;
 
     public CreateDeviceAttestationSubKeyComponent() {
+        this(AppContext.instance());
+    }
+
+    public CreateDeviceAttestationSubKeyComponent(AppContext appContext) {
         this(new CreateAttestationSubKeyMessageSender(),
             new TeardownMessageSender(),
             new CreateAttestationSubKeyVerifier(),
-            new S10AttestationRevocationService(),
+            new S10AttestationRevocationService(appContext),
             new SigmaM2DeviceIdVerifier()
         );
     }
 
-    public VerifierExchangeResponse perform(String context, PufType pufType, byte[] deviceId) {
-
-        return perform(AppContext.instance(), context, pufType, deviceId);
-    }
-
     VerifierExchangeResponse perform(AppContext appContext, String context, PufType pufType, byte[] deviceId) {
 
         final EcdhKeyPair serviceDhKeyPair = generateEcdhKeyPair();
@@ -61,7 +61,6 @@ import com.intel.bkp.verifier.sigma.SigmaM2DeviceIdVerifier;
 import com.intel.bkp.verifier.x509.X509CertificateParser;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
@@ -76,13 +75,12 @@ import static com.intel.bkp.verifier.model.DiceRevocationStatus.REVOKED;
 
 @Slf4j
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
-@NoArgsConstructor
 public class DiceAttestationComponent {
 
     private final GetMeasurementResponseToTcbInfoMapper measurementMapper = new GetMeasurementResponseToTcbInfoMapper();
     private GetCertificateMessageSender getCertificateMessageSender = new GetCertificateMessageSender();
     private X509CertificateParser certificateParser = new X509CertificateParser();
-    private DiceAttestationRevocationService diceAttestationRevocationService = new DiceAttestationRevocationService();
+    private DiceAttestationRevocationService diceAttestationRevocationService;
     private DiceParamsIssuerParser diceParamsIssuerParser = new DiceParamsIssuerParser();
     private DiceEnrollmentParamsParser diceEnrollmentParamsParser = new DiceEnrollmentParamsParser();
     private UeidExtensionParser ueidExtensionParser = new UeidExtensionParser();
@@ -94,9 +92,12 @@ public class DiceAttestationComponent {
     private SigmaM2DeviceIdVerifier deviceIdVerifier = new SigmaM2DeviceIdVerifier();
     private TcbInfoAggregator tcbInfoAggregator = new TcbInfoAggregator();
 
-    public VerifierExchangeResponse perform(byte[] firmwareCertificateResponse, String refMeasurement,
-                                            byte[] deviceId) {
-        return perform(AppContext.instance(), firmwareCertificateResponse, refMeasurement, deviceId);
+    public DiceAttestationComponent() {
+        this(AppContext.instance());
+    }
+
+    public DiceAttestationComponent(AppContext appContext) {
+        diceAttestationRevocationService = new DiceAttestationRevocationService(appContext);
     }
 
     VerifierExchangeResponse perform(AppContext appContext, byte[] firmwareCertificateResponse, String refMeasurement,
@@ -54,11 +54,12 @@ public class GetDeviceAttestationComponent {
     private final DiceAttestationComponent diceAttestationComponent;
 
     public GetDeviceAttestationComponent() {
-        this(new GetCertificateMessageSender(), new S10AttestationComponent(), new DiceAttestationComponent());
+        this(AppContext.instance());
     }
 
-    public VerifierExchangeResponse perform(String refMeasurement, byte[] deviceId) {
-        return perform(AppContext.instance(), refMeasurement, deviceId);
+    public GetDeviceAttestationComponent(AppContext appContext) {
+        this(new GetCertificateMessageSender(), new S10AttestationComponent(appContext),
+            new DiceAttestationComponent(appContext));
     }
 
     VerifierExchangeResponse perform(AppContext appContext, String refMeasurement, byte[] deviceId) {
@@ -68,10 +69,10 @@ public class GetDeviceAttestationComponent {
         try {
             final byte[] response = getCertificateMessageSender.send(transportLayer, commandLayer, FIRMWARE);
             log.debug("This is FM/DM board.");
-            return diceAttestationComponent.perform(response, refMeasurement, deviceId);
+            return diceAttestationComponent.perform(appContext, response, refMeasurement, deviceId);
         } catch (UnknownCommandException e) {
             log.debug("This is S10 board: {}", e.getMessage());
-            return s10AttestationComponent.perform(refMeasurement, deviceId);
+            return s10AttestationComponent.perform(appContext, refMeasurement, deviceId);
         }
     }
 }
@@ -55,10 +55,6 @@ public class InitSessionComponent {
     private TeardownMessageSender teardownMessageSender = new TeardownMessageSender();
     private GetChipIdMessageSender getChipIdMessageSender = new GetChipIdMessageSender();
 
-    public byte[] initializeSessionForDeviceId() throws InitSessionFailedException {
-        return initializeSessionForDeviceId(AppContext.instance());
-    }
-
     @NonNull
     byte[] initializeSessionForDeviceId(AppContext appContext) throws InitSessionFailedException {
 
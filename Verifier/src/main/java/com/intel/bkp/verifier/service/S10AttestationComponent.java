@@ -72,13 +72,13 @@ public class S10AttestationComponent {
     private final TcbInfoAggregator tcbInfoAggregator;
 
     public S10AttestationComponent() {
-        this(new GetMeasurementResponseToTcbInfoMapper(), new GetMeasurementMessageSender(),
-            new TeardownMessageSender(), new GetMeasurementVerifier(), new EvidenceVerifier(),
-            new S10AttestationRevocationService(), new SigmaM2DeviceIdVerifier(), new TcbInfoAggregator());
+        this(AppContext.instance());
     }
 
-    public VerifierExchangeResponse perform(String refMeasurement, byte[] deviceId) {
-        return perform(AppContext.instance(), refMeasurement, deviceId);
+    public S10AttestationComponent(AppContext appContext) {
+        this(new GetMeasurementResponseToTcbInfoMapper(), new GetMeasurementMessageSender(),
+            new TeardownMessageSender(), new GetMeasurementVerifier(), new EvidenceVerifier(),
+            new S10AttestationRevocationService(appContext), new SigmaM2DeviceIdVerifier(), new TcbInfoAggregator());
     }
 
     VerifierExchangeResponse perform(AppContext appContext, String refMeasurement, byte[] deviceId) {
@@ -34,41 +34,110 @@
 package com.intel.bkp.verifier.service;
 
 import com.intel.bkp.ext.core.manufacturing.model.PufType;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
 import com.intel.bkp.verifier.interfaces.TransportLayer;
 import com.intel.bkp.verifier.interfaces.VerifierExchange;
+import com.intel.bkp.verifier.model.AttestationPhase;
+import com.intel.bkp.verifier.model.ConcurrencyConfig;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.dto.VerifierExchangeResponseDTO;
+import com.intel.bkp.verifier.utils.BoundedExecutor;
 import com.intel.bkp.verifier.validators.ParameterValidator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
 import static com.intel.bkp.ext.utils.HexConverter.toHex;
 
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
-public class VerifierExchangeImpl implements VerifierExchange {
+public class VerifierExchangeImpl implements VerifierExchange, AutoCloseable {
 
     private static final byte[] GET_CHIPID = new byte[]{0x12, 0x00, 0x00, 0x00};
 
     private final ParameterValidator parameterValidator = new ParameterValidator();
 
-    private final InitSessionComponent initSessionComponent;
-    private final CreateDeviceAttestationSubKeyComponent createSubKeyComponent;
-    private final GetDeviceAttestationComponent getAttestationComponent;
+    // components keep state of single session, so new instances are created for each call
+    private final Supplier<InitSessionComponent> initSessionComponentFactory;
+    private final Function<AppContext, CreateDeviceAttestationSubKeyComponent> createSubKeyComponentFactory;
+    private final Function<AppContext, GetDeviceAttestationComponent> getAttestationComponentFactory;
+
+    // runs asynchronous calls, with limit of concurrent sessions applied
+    private final Executor sessionExecutor;
+
+    // clients with limits of this instance, null if clients shared by the library are used
+    private final DistributionPointClients distributionPointClients;
+
+    // context held between calls after start(), so that resources are not released when single call ends
+    private AppContext retainedContext;
 
     public VerifierExchangeImpl() {
-        this(new InitSessionComponent(), new CreateDeviceAttestationSubKeyComponent(),
-            new GetDeviceAttestationComponent());
+        this(InitSessionComponent::new, CreateDeviceAttestationSubKeyComponent::new,
+            GetDeviceAttestationComponent::new, getSessionExecutor(ConcurrencyConfig.builder().build()), null);
+    }
+
+    /**
+     * Creates instance with custom limits. Limits apply only to calls of this instance - it has its own session
+     * executor and its own distribution point clients, which are passed to sessions through their AppContext.
+     */
+    public VerifierExchangeImpl(ConcurrencyConfig concurrencyConfig) {
+        this(InitSessionComponent::new, CreateDeviceAttestationSubKeyComponent::new,
+            GetDeviceAttestationComponent::new, getSessionExecutor(concurrencyConfig),
+            new DistributionPointClients(concurrencyConfig.getMaxConcurrentDistributionPointRequests(),
+                concurrencyConfig.getDistributionPointExecutor()));
+    }
+
+    /**
+     * Initializes configuration, security provider, database, distribution point client and caches once and keeps
+     * them until {@link #close()} is called. Without it, resources are released whenever no call is in progress
+     * and initialized again by the next call.
+     *
+     * @return this instance
+     */
+    public synchronized VerifierExchangeImpl start() {
+        if (retainedContext == null) {
+            log.debug("Retaining AppContext until Verifier is closed.");
+            retainedContext = AppContext.acquire();
+        }
+        return this;
+    }
+
+    /**
+     * Releases resources retained by {@link #start()} - database, caches, distribution point clients, idle device
+     * connections and their threads - unless another started instance still holds them. Calls still in progress
+     * keep them until they end. Distribution point clients of this instance are closed as well. Instance may be
+     * started again afterwards.
+     */
+    @Override
+    public synchronized void close() throws Exception {
+        if (retainedContext != null) {
+            log.debug("Releasing retained AppContext.");
+            final AppContext appContext = retainedContext;
+            retainedContext = null;
+            appContext.close();
+        }
+        if (distributionPointClients != null) {
+            distributionPointClients.close();
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public int createDeviceAttestationSubKey(String transportId, String context, PufType pufType) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.acquire()) {
             appContext.init();
             return createSubKeyInternal(appContext, transportId, context, pufType);
         } catch (Exception e) {
@@ -80,7 +149,7 @@ public class VerifierExchangeImpl implements VerifierExchange {
     @Override
     @SuppressWarnings("unchecked")
     public VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurement) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.acquire()) {
             appContext.init();
             return getAttestationInternal(appContext, transportId, refMeasurement);
         } catch (Exception e) {
@@ -92,7 +161,7 @@ public class VerifierExchangeImpl implements VerifierExchange {
     @Override
     @SuppressWarnings("unchecked")
     public int healthCheck(String transportId) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.acquire()) {
             appContext.init();
             return healthCheckInternal(appContext, transportId);
         } catch (VerifierKeyNotInitializedException e) {
@@ -104,20 +173,80 @@ public class VerifierExchangeImpl implements VerifierExchange {
         }
     }
 
+    @Override
+    public List<VerifierExchangeResponseDTO> getDeviceAttestations(List<String> transportIds, String refMeasurement) {
+        return getDeviceAttestationsInternal(transportIds, transportId -> refMeasurement);
+    }
+
+    @Override
+    public List<VerifierExchangeResponseDTO> getDeviceAttestations(Map<String, String> refMeasurementByTransportId) {
+        return getDeviceAttestationsInternal(new ArrayList<>(refMeasurementByTransportId.keySet()),
+            refMeasurementByTransportId::get);
+    }
+
+    @Override
+    public CompletableFuture<Integer> createDeviceAttestationSubKeyAsync(String transportId, String context,
+                                                                         PufType pufType) {
+        return CompletableFuture.supplyAsync(() -> createDeviceAttestationSubKey(transportId, context, pufType),
+            sessionExecutor);
+    }
+
+    @Override
+    public CompletableFuture<VerifierExchangeResponseDTO> getDeviceAttestationAsync(String transportId,
+                                                                                    String refMeasurement) {
+        return CompletableFuture.supplyAsync(() -> getDeviceAttestation(transportId, refMeasurement),
+            sessionExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> healthCheckAsync(String transportId) {
+        return CompletableFuture.supplyAsync(() -> healthCheck(transportId), sessionExecutor);
+    }
+
+    List<VerifierExchangeResponseDTO> getDeviceAttestationsInternal(List<String> transportIds,
+                                                                    UnaryOperator<String> refMeasurementProvider) {
+        final long startTime = System.currentTimeMillis();
+        try (AppContext appContext = AppContext.acquire()) {
+            appContext.init();
+            final List<CompletableFuture<VerifierExchangeResponseDTO>> futures = transportIds.stream()
+                .map(transportId -> CompletableFuture.supplyAsync(() -> getAttestationInternal(appContext,
+                    transportId, refMeasurementProvider.apply(transportId)), sessionExecutor))
+                .collect(Collectors.toList());
+
+            final List<VerifierExchangeResponseDTO> responses = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+            logBatchSummary(responses, System.currentTimeMillis() - startTime);
+            return responses;
+        } catch (Exception e) {
+            log.error("Batch device attestation failed.", e);
+            return transportIds.stream()
+                .map(transportId -> {
+                    final VerifierExchangeResponseDTO response =
+                        new VerifierExchangeResponseDTO(VerifierExchangeResponse.ERROR.getCode(), "");
+                    response.setTransportId(transportId);
+                    return response;
+                })
+                .collect(Collectors.toList());
+        }
+    }
+
     int createSubKeyInternal(AppContext appContext, String transportId, String context, PufType pufType) {
         // this check is required to prevent SQL Injection
         if (!parameterValidator.validateContext(context)) {
             return VerifierExchangeResponse.ERROR.getCode();
         }
 
-        final TransportLayer transportLayer = appContext.getTransportLayer();
+        final AppContext sessionContext = newSessionContext(appContext);
+        final TransportLayer transportLayer = sessionContext.getTransportLayer();
         try {
             transportLayer.initialize(transportId);
-            final byte[] deviceId = initSessionComponent.initializeSessionForDeviceId();
+            final byte[] deviceId = initSessionComponentFactory.get().initializeSessionForDeviceId(sessionContext);
             log.info("CREATE_ATTESTATION_SUBKEY will be performed for device of id: {}",
                 toHex(deviceId));
 
-            return createSubKeyComponent.perform(context, pufType, deviceId)
+            return createSubKeyComponentFactory.apply(sessionContext)
+                .perform(sessionContext, context, pufType, deviceId)
                 .getCode();
         } catch (Exception e) {
             log.error("Failed to perform CREATE_ATTESTATION_SUBKEY.", e);
@@ -130,17 +259,25 @@ public class VerifierExchangeImpl implements VerifierExchange {
     VerifierExchangeResponseDTO getAttestationInternal(
         AppContext appContext, String transportId, String refMeasurement) {
         final VerifierExchangeResponseDTO response = new VerifierExchangeResponseDTO();
+        response.setTransportId(transportId);
+        final PhaseTimer timer = new PhaseTimer(response);
 
-        final TransportLayer transportLayer = appContext.getTransportLayer();
+        final AppContext sessionContext = newSessionContext(appContext);
+        final TransportLayer transportLayer = sessionContext.getTransportLayer();
         try {
             transportLayer.initialize(transportId);
-            final byte[] deviceId = initSessionComponent.initializeSessionForDeviceId();
+            timer.finished(AttestationPhase.CONNECTION);
+
+            final byte[] deviceId = initSessionComponentFactory.get().initializeSessionForDeviceId(sessionContext);
+            timer.finished(AttestationPhase.SESSION_INITIALIZATION);
             response.setDeviceId(toHex(deviceId));
             log.info("GET_MEASUREMENT will be performed for device of id: {}",
                 toHex(deviceId));
 
-            response.setStatus(getAttestationComponent.perform(refMeasurement, deviceId)
+            response.setStatus(getAttestationComponentFactory.apply(sessionContext)
+                .perform(sessionContext, refMeasurement, deviceId)
                 .getCode());
+            timer.finished(AttestationPhase.ATTESTATION);
         } catch (Exception e) {
             log.error("Failed to perform GET_MEASUREMENT.", e);
             response.setStatus(VerifierExchangeResponse.ERROR.getCode());
@@ -151,7 +288,7 @@ public class VerifierExchangeImpl implements VerifierExchange {
     }
 
     int healthCheckInternal(AppContext appContext, String transportId) {
-        final TransportLayer transportLayer = appContext.getTransportLayer();
+        final TransportLayer transportLayer = appContext.withNewTransportLayer().getTransportLayer();
         try {
             transportLayer.initialize(transportId);
             final String result = toHex(transportLayer.sendCommand(GET_CHIPID));
@@ -166,4 +303,41 @@ public class VerifierExchangeImpl implements VerifierExchange {
             transportLayer.disconnect();
         }
     }
+
+    private AppContext newSessionContext(AppContext appContext) {
+        final AppContext sessionContext = appContext.withNewTransportLayer();
+        return distributionPointClients == null
+               ? sessionContext
+               : sessionContext.withDistributionPointClients(distributionPointClients);
+    }
+
+    private static void logBatchSummary(List<VerifierExchangeResponseDTO> responses, long duration) {
+        final Map<Integer, Long> countByStatus = responses.stream()
+            .collect(Collectors.groupingBy(VerifierExchangeResponseDTO::getStatus, Collectors.counting()));
+        log.info("Attestation of {} devices finished in {} ms. OK: {}, FAIL: {}, ERROR: {}",
+            responses.size(), duration,
+            countByStatus.getOrDefault(VerifierExchangeResponse.OK.getCode(), 0L),
+            countByStatus.getOrDefault(VerifierExchangeResponse.FAIL.getCode(), 0L),
+            countByStatus.getOrDefault(VerifierExchangeResponse.ERROR.getCode(), 0L));
+    }
+
+    private static Executor getSessionExecutor(ConcurrencyConfig concurrencyConfig) {
+        return new BoundedExecutor(concurrencyConfig.getExecutor(), concurrencyConfig.getMaxConcurrentSessions());
+    }
+
+    private static class PhaseTimer {
+
+        private final VerifierExchangeResponseDTO response;
+        private long phaseStartTime = System.currentTimeMillis();
+
+        PhaseTimer(VerifierExchangeResponseDTO response) {
+            this.response = response;
+        }
+
+        void finished(AttestationPhase phase) {
+            final long now = System.currentTimeMillis();
+            response.getPhaseTimings().put(phase, now - phaseStartTime);
+            phaseStartTime = now;
+        }
+    }
 }
@@ -38,22 +38,41 @@ import com.intel.bkp.verifier.command.MailboxCommandLayer;
 import com.intel.bkp.verifier.command.messages.subkey.VerifierKeyManager;
 import com.intel.bkp.verifier.config.JceSecurityConfiguration;
 import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
+import com.intel.bkp.verifier.dp.DistributionPointMirror;
+import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
 import com.intel.bkp.verifier.interfaces.CommandLayer;
 import com.intel.bkp.verifier.interfaces.TransportLayer;
+import com.intel.bkp.verifier.model.DistributionPoint;
 import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.TransportLayerType;
 import com.intel.bkp.verifier.model.VerifierKeyParams;
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
 import com.intel.bkp.verifier.utils.LibConfigParser;
+import com.intel.bkp.verifier.x509.SignatureVerificationCache;
+import com.intel.bkp.verifier.x509.VerifiedLinkCache;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Getter
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class AppContext implements AutoCloseable {
 
     private static final String CONFIG_FILE_NAME = "config.properties";
@@ -64,10 +83,16 @@ public class AppContext implements AutoCloseable {
     private SQLiteHelper sqLiteHelper;
     private VerifierKeyParams verifierKeyParams;
     private VerifierKeyManager verifierKeyManager;
+    private CertificateCache certificateCache;
+    private CrlCache crlCache;
+    private DistributionPointMirror distributionPointMirror;
+    private DistributionPointClients distributionPointClients;
+    private TransportLayer transportLayer;
 
     private static AppContext INSTANCE;
+    private static int usages;
 
-    public static AppContext instance() {
+    public static synchronized AppContext instance() {
         if (INSTANCE == null) {
             log.debug("Initializing AppContext.");
             INSTANCE = initialize();
@@ -75,14 +100,32 @@ public class AppContext implements AutoCloseable {
         return INSTANCE;
     }
 
+    /**
+     * Returns shared context for the duration of single API call or for lifetime of started Verifier. It must be
+     * closed when call ends or Verifier is closed - resources are released when the last user closes it.
+     * In-memory certificate, parse and CRL caches belong to the context, so they are kept between calls only while
+     * started Verifier holds it.
+     */
+    public static synchronized AppContext acquire() {
+        final AppContext appContext = instance();
+        usages++;
+        return appContext;
+    }
+
     static AppContext initialize() {
         final LibConfig libConfig = prepareLibConfig();
         final ISecurityProvider securityProvider = prepareSecurityProvider(libConfig);
         final VerifierKeyParams verifierKeyParams = prepareVerifierKeyParams(libConfig);
+        final DistributionPointMirror distributionPointMirror = prepareDistributionPointMirror(libConfig);
+        X509CertificateParser.setParseCacheSize(
+            libConfig.getDistributionPoint().getCertificateCache().getParseCacheSize());
+        resolveTrustAnchors(libConfig);
 
         return new AppContext(libConfig, prepareCommandLayer(), securityProvider,
             prepareSqLiteHelper(libConfig), verifierKeyParams,
-            prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()));
+            prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()),
+            prepareCertificateCache(libConfig), prepareCrlCache(libConfig), distributionPointMirror,
+            prepareDistributionPointClients(distributionPointMirror), null);
     }
 
     private static LibConfig prepareLibConfig() {
@@ -101,6 +144,67 @@ public class AppContext implements AutoCloseable {
         return new VerifierKeyManager(securityProvider, keyName);
     }
 
+    private static CertificateCache prepareCertificateCache(LibConfig libConfig) {
+        return new CertificateCache(libConfig.getDistributionPoint().getCertificateCache());
+    }
+
+    private static CrlCache prepareCrlCache(LibConfig libConfig) {
+        return new CrlCache(libConfig.getDistributionPoint().getCrlCache());
+    }
+
+    private static DistributionPointClients prepareDistributionPointClients(DistributionPointMirror mirror) {
+        final DistributionPointClients clients = new DistributionPointClients();
+        clients.setMirror(mirror);
+        return clients;
+    }
+
+    private static DistributionPointMirror prepareDistributionPointMirror(LibConfig libConfig) {
+        final String mirrorPath = libConfig.getDistributionPoint().getMirrorPath();
+        if (StringUtils.isBlank(mirrorPath)) {
+            return null;
+        }
+
+        log.info("Using distribution point mirror: {}", mirrorPath);
+        try {
+            return DistributionPointMirror.open(Path.of(mirrorPath));
+        } catch (IOException e) {
+            throw new InternalLibraryException("Failed to open distribution point mirror: " + mirrorPath, e);
+        }
+    }
+
+    private static void resolveTrustAnchors(LibConfig libConfig) {
+        final DistributionPoint dp = libConfig.getDistributionPoint();
+        if (StringUtils.isBlank(dp.getTrustStorePath())) {
+            return;
+        }
+
+        log.info("Using local trust store: {}", dp.getTrustStorePath());
+        dp.getTrustedRootHash().resolve(loadTrustStore(Path.of(dp.getTrustStorePath())));
+    }
+
+    private static List<X509Certificate> loadTrustStore(Path trustStorePath) {
+        final X509CertificateParser certificateParser = new X509CertificateParser();
+        final List<X509Certificate> certificates = new ArrayList<>();
+        try {
+            for (Path file : listTrustStoreFiles(trustStorePath)) {
+                certificates.add(certificateParser.toX509(Files.readAllBytes(file)));
+            }
+        } catch (IOException e) {
+            throw new InternalLibraryException("Failed to read trust store: " + trustStorePath, e);
+        }
+        return certificates;
+    }
+
+    private static List<Path> listTrustStoreFiles(Path trustStorePath) throws IOException {
+        if (!Files.isDirectory(trustStorePath)) {
+            return List.of(trustStorePath);
+        }
+
+        try (Stream<Path> files = Files.list(trustStorePath)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
     private static MailboxCommandLayer prepareCommandLayer() {
         return new MailboxCommandLayer();
     }
@@ -119,12 +223,49 @@ public class AppContext implements AutoCloseable {
         }
     }
 
-    public TransportLayer getTransportLayer() {
-        return libConfig.getTransportLayerType().getTransportLayer();
+    /**
+     * Creates context of single session with device. All resources are shared with this context, except transport
+     * layer which is created separately for each session, so that many devices can be attested concurrently.
+     */
+    public AppContext withNewTransportLayer() {
+        return new AppContext(libConfig, commandLayer, securityProvider, sqLiteHelper, verifierKeyParams,
+            verifierKeyManager, certificateCache, crlCache, distributionPointMirror, distributionPointClients,
+            libConfig.getTransportLayerType().createTransportLayer());
+    }
+
+    /**
+     * Creates context that sends distribution point requests with given clients, within their own limits, instead of
+     * clients shared by the library. Other resources, including mirror that is applied to given clients, are shared
+     * with this context.
+     */
+    public AppContext withDistributionPointClients(DistributionPointClients clients) {
+        clients.setMirror(distributionPointMirror);
+        return new AppContext(libConfig, commandLayer, securityProvider, sqLiteHelper, verifierKeyParams,
+            verifierKeyManager, certificateCache, crlCache, distributionPointMirror, clients, transportLayer);
     }
 
     @Override
     public void close() throws Exception {
-        sqLiteHelper.close();
+        // resources shared through static state are released before next acquire() may initialize them again
+        synchronized (AppContext.class) {
+            usages = Math.max(0, usages - 1);
+            if (usages > 0) {
+                return;
+            }
+            INSTANCE = null;
+
+            crlCache.close();
+            distributionPointClients.close();
+            // results of verification must not outlive configuration they were verified with
+            X509CertificateParser.setParseCacheSize(0);
+            DiceCertificateView.clearViews();
+            VerifiedLinkCache.instance().clear();
+            SignatureVerificationCache.instance().clear();
+            if (distributionPointMirror != null) {
+                distributionPointMirror.close();
+            }
+            sqLiteHelper.close();
+            TransportLayerType.closeConnectionPools();
+        }
     }
 }
@@ -0,0 +1,302 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.ext.crypto.CryptoUtils;
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
+import com.intel.bkp.verifier.utils.SingleFlight;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of certificates downloaded from distribution point, keyed by URL.
+ * First tier keeps parsed certificates in memory, second tier keeps downloaded bytes in directory on disk, along with
+ * their SHA-256 hash, so that corrupted files are downloaded again. Entries of both tiers expire after TTL counted
+ * from download, expired entries in memory are revalidated with conditional requests when distribution point provided
+ * validators, and are still used when distribution point cannot be reached.
+ */
+@Slf4j
+public class CertificateCache {
+
+    static final String CERTIFICATE_FILE_EXTENSION = ".cer";
+    static final String HASH_FILE_EXTENSION = ".sha256";
+    // entries are only url and time, so negative cache is bounded independently of memory size of certificates
+    static final int NOT_FOUND_CACHE_SIZE = 4096;
+
+    private final int memorySize;
+    private final long ttlMillis;
+    private final Path directory;
+    private final long negativeTtlMillis;
+    private final Map<String, CachedCertificate> memoryCache;
+    private final Map<String, Long> notFoundCache;
+    private final SingleFlight<String, Optional<X509Certificate>> loads = new SingleFlight<>();
+
+    public CertificateCache(CertificateCacheConfig config) {
+        this.memorySize = config.getMemorySize();
+        this.ttlMillis = config.getTtlSeconds() * 1000;
+        this.directory = StringUtils.isBlank(config.getDirectory()) ? null : Path.of(config.getDirectory());
+        this.negativeTtlMillis = config.getNegativeTtlSeconds() * 1000;
+        this.memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCertificate> eldest) {
+                return size() > memorySize;
+            }
+        };
+        this.notFoundCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > NOT_FOUND_CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * Returns certificate from cache or downloads it. Certificates that are not found are not cached.
+     * Concurrent calls for the same url that miss memory cache share one download and parsed certificate.
+     *
+     * @param url address of certificate on distribution point
+     * @param downloader downloads certificate bytes from given url
+     * @param parser parses certificate bytes
+     * @return certificate or empty if it was not found on distribution point
+     */
+    public Optional<X509Certificate> get(String url, Function<String, Optional<byte[]>> downloader,
+                                         Function<byte[], X509Certificate> parser) {
+        return get(url, (path, validators) -> downloader.apply(path).map(DistributionPointResponse::modified),
+            parser);
+    }
+
+    /**
+     * Returns certificate from cache or downloads it. Expired certificate in memory is revalidated with conditional
+     * request, and if it did not change on distribution point, it is used again without parsing. Certificates
+     * that do not exist on distribution point are not requested again until negative TTL passes.
+     *
+     * @param url address of certificate on distribution point
+     * @param downloader downloads certificate from given url, unless it did not change
+     * @param parser parses certificate bytes
+     * @return certificate or empty if it was not found on distribution point
+     */
+    public Optional<X509Certificate> get(String url, ConditionalDownloader downloader,
+                                         Function<byte[], X509Certificate> parser) {
+        final CachedCertificate cached = getFromMemory(url);
+        if (cached != null && !isExpired(cached.getCachedAt())) {
+            log.debug("Certificate found in memory cache: {}", url);
+            return Optional.of(cached.getCertificate());
+        }
+
+        if (isKnownNotFound(url)) {
+            log.debug("Certificate known not to exist on distribution point: {}", url);
+            return Optional.empty();
+        }
+
+        return loads.execute(url, () -> load(url, cached, downloader, parser));
+    }
+
+    private Optional<X509Certificate> load(String url, CachedCertificate expired, ConditionalDownloader downloader,
+                                           Function<byte[], X509Certificate> parser) {
+        final HttpValidators validators = expired == null ? HttpValidators.NONE : expired.getValidators();
+        if (validators.isEmpty()) {
+            final Optional<CachedFile> fromDisk = readFromDisk(url);
+            if (fromDisk.isPresent()) {
+                log.debug("Certificate found in disk cache: {}", url);
+                // file keeps time of download, so that certificate does not live in memory longer than TTL
+                return Optional.of(putInMemory(url, parser.apply(fromDisk.get().getContent()),
+                    fromDisk.get().getCachedAt(), HttpValidators.NONE));
+            }
+        }
+
+        final Optional<DistributionPointResponse> response = downloader.download(url, validators);
+        if (response.isEmpty()) {
+            // expired certificate is still served when distribution point is unavailable, and revalidated next time
+            if (expired != null) {
+                log.warn("Failed to revalidate certificate, using cached copy: {}", url);
+                return Optional.of(expired.getCertificate());
+            }
+            return Optional.empty();
+        }
+
+        if (response.get().isNotFound()) {
+            removeFromMemory(url);
+            putNotFound(url);
+            return Optional.empty();
+        }
+
+        if (response.get().isNotModified() && expired != null) {
+            log.debug("Certificate did not change on distribution point: {}", url);
+            return Optional.of(putInMemory(url, expired.getCertificate(), response.get().getValidators()));
+        }
+
+        return Optional.ofNullable(response.get().getBody())
+            .map(bytes -> {
+                final X509Certificate certificate = parser.apply(bytes);
+                writeToDisk(url, bytes);
+                return putInMemory(url, certificate, response.get().getValidators());
+            });
+    }
+
+    private synchronized CachedCertificate getFromMemory(String url) {
+        return memoryCache.get(url);
+    }
+
+    private synchronized void removeFromMemory(String url) {
+        memoryCache.remove(url);
+    }
+
+    private synchronized boolean isKnownNotFound(String url) {
+        final Long notFoundAt = notFoundCache.get(url);
+        if (notFoundAt == null) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() - notFoundAt >= negativeTtlMillis) {
+            notFoundCache.remove(url);
+            return false;
+        }
+        return true;
+    }
+
+    private synchronized void putNotFound(String url) {
+        if (negativeTtlMillis > 0) {
+            notFoundCache.put(url, System.currentTimeMillis());
+        }
+    }
+
+    private X509Certificate putInMemory(String url, X509Certificate certificate, HttpValidators validators) {
+        return putInMemory(url, certificate, System.currentTimeMillis(), validators);
+    }
+
+    private synchronized X509Certificate putInMemory(String url, X509Certificate certificate, long cachedAt,
+                                                     HttpValidators validators) {
+        if (memorySize > 0 && certificate != null) {
+            memoryCache.put(url, new CachedCertificate(certificate, cachedAt, validators));
+        }
+        return certificate;
+    }
+
+    private Optional<CachedFile> readFromDisk(String url) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+
+        final Path certificateFile = getFile(url, CERTIFICATE_FILE_EXTENSION);
+        final Path hashFile = getFile(url, HASH_FILE_EXTENSION);
+        try {
+            if (!Files.exists(certificateFile) || !Files.exists(hashFile)) {
+                return Optional.empty();
+            }
+
+            final long cachedAt = Files.getLastModifiedTime(certificateFile).toMillis();
+            if (isExpired(cachedAt)) {
+                return Optional.empty();
+            }
+
+            final byte[] content = Files.readAllBytes(certificateFile);
+            final String expectedHash = Files.readString(hashFile, StandardCharsets.US_ASCII).trim();
+            if (!expectedHash.equalsIgnoreCase(CryptoUtils.generateSha256Fingerprint(content))) {
+                log.warn("Cached certificate file is corrupted and will be downloaded again: {}", certificateFile);
+                return Optional.empty();
+            }
+            return Optional.of(new CachedFile(content, cachedAt));
+        } catch (IOException e) {
+            log.debug("Failed to read certificate from disk cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String url, byte[] content) {
+        if (directory == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            // hash is written first, so that certificate file is never considered valid without it
+            writeAtomically(getFile(url, HASH_FILE_EXTENSION),
+                CryptoUtils.generateSha256Fingerprint(content).getBytes(StandardCharsets.US_ASCII));
+            writeAtomically(getFile(url, CERTIFICATE_FILE_EXTENSION), content);
+        } catch (IOException e) {
+            log.warn("Failed to write certificate to disk cache: {}", e.getMessage());
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        final Path tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path getFile(String url, String extension) {
+        return directory.resolve(CryptoUtils.generateSha256Fingerprint(url.getBytes(StandardCharsets.UTF_8))
+            + extension);
+    }
+
+    private boolean isExpired(long cachedAt) {
+        return System.currentTimeMillis() - cachedAt >= ttlMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedCertificate {
+
+        private final X509Certificate certificate;
+        private final long cachedAt;
+        private final HttpValidators validators;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedFile {
+
+        private final byte[] content;
+        private final long cachedAt;
+    }
+}
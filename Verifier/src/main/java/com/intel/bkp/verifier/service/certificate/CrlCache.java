@@ -0,0 +1,233 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
+import com.intel.bkp.verifier.exceptions.ConnectionException;
+import com.intel.bkp.verifier.model.CrlCacheConfig;
+import com.intel.bkp.verifier.utils.SingleFlight;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.X509CRL;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed CRLs, keyed by URL. CRL is used without downloading until its nextUpdate. After that, and within
+ * grace period, it is used only if new CRL cannot be downloaded. CRLs that are in use are refreshed in background
+ * when their nextUpdate passes, so that attestation does not wait for download. Concurrent downloads of the same
+ * CRL are coalesced into one. When distribution point responds that CRL did not change, it is considered up to
+ * date for the time given in Cache-Control or Expires header of response, or for configured revalidation TTL.
+ */
+@Slf4j
+public class CrlCache implements AutoCloseable {
+
+    static final long REFRESH_RETRY_INTERVAL_MILLIS = 60 * 1000;
+
+    private final long gracePeriodMillis;
+    private final boolean backgroundRefresh;
+    private final long revalidationTtlMillis;
+    private final Map<String, CachedCrl> cache = new ConcurrentHashMap<>();
+    private final SingleFlight<String, CachedCrl> downloads = new SingleFlight<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public CrlCache(CrlCacheConfig config) {
+        this.gracePeriodMillis = config.getGracePeriodSeconds() * 1000;
+        this.backgroundRefresh = config.isBackgroundRefresh();
+        this.revalidationTtlMillis = config.getRevalidationTtlSeconds() * 1000;
+    }
+
+    /**
+     * Returns cached CRL or downloads it. Cached CRL is revalidated with conditional request, so it is not downloaded
+     * and parsed again if it did not change on distribution point.
+     *
+     * @param url address of CRL on distribution point
+     * @param downloader downloads CRL from given url, unless it did not change
+     * @param parser parses CRL bytes
+     * @return CRL that is valid, or last good copy within grace period if download failed
+     */
+    public X509CRL get(String url, ConditionalDownloader downloader, Function<byte[], X509CRL> parser) {
+        final long now = System.currentTimeMillis();
+        final CachedCrl cached = cache.get(url);
+        if (cached != null && now < cached.getNextUpdate()) {
+            log.debug("CRL found in cache: {}", url);
+            cached.setLastAccessed(now);
+            return cached.getCrl();
+        }
+
+        try {
+            return downloads.execute(url, () -> download(url, downloader, parser)).getCrl();
+        } catch (RuntimeException e) {
+            if (cached != null && now < cached.getExpiry()) {
+                log.warn("Failed to download CRL from {}, using last good copy with nextUpdate {}: {}",
+                    url, new Date(cached.getNextUpdate()), e.getMessage());
+                return cached.getCrl();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns revoked serials index built when CRL was downloaded. Index is built on demand if given CRL is not
+     * the one currently cached under url.
+     */
+    public RevokedSerials getRevokedSerials(String url, X509CRL crl) {
+        final CachedCrl cached = cache.get(url);
+        if (cached != null && cached.getCrl() == crl) {
+            return cached.getRevokedSerials();
+        }
+        return RevokedSerials.from(crl);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        cache.clear();
+    }
+
+    private CachedCrl download(String url, ConditionalDownloader downloader, Function<byte[], X509CRL> parser) {
+        final CachedCrl previous = cache.get(url);
+        final HttpValidators validators = previous == null ? HttpValidators.NONE : previous.getValidators();
+        final DistributionPointResponse response = downloader.download(url, validators)
+            .filter(r -> !r.isNotFound())
+            .orElseThrow(() -> new ConnectionException("CRL not found on distribution point: " + url));
+
+        final X509CRL crl;
+        final RevokedSerials revokedSerials;
+        if (response.isNotModified() && previous != null) {
+            log.debug("CRL did not change on distribution point: {}", url);
+            crl = previous.getCrl();
+            revokedSerials = previous.getRevokedSerials();
+        } else if (response.isNotModified()) {
+            throw new ConnectionException("Distribution point responded not modified to unconditional request: " + url);
+        } else {
+            crl = parser.apply(response.getBody());
+            revokedSerials = RevokedSerials.from(crl);
+        }
+
+        final long now = System.currentTimeMillis();
+        final Optional<Long> nextUpdate = response.isNotModified()
+            ? Optional.of(getFreshUntil(crl, response, now))
+            : Optional.ofNullable(crl.getNextUpdate()).map(Date::getTime);
+
+        // CRL without nextUpdate is never considered up to date, but it may still serve as last good copy
+        final CachedCrl cached = new CachedCrl(crl, revokedSerials, downloader, parser, response.getValidators(),
+            now, nextUpdate.orElse(now), nextUpdate.orElse(now) + gracePeriodMillis);
+        cached.setLastAccessed(now);
+        cache.put(url, cached);
+
+        nextUpdate.ifPresent(time -> scheduleRefresh(url, cached,
+            Math.max(time - now, REFRESH_RETRY_INTERVAL_MILLIS)));
+        return cached;
+    }
+
+    /**
+     * CRL confirmed by distribution point as not modified is up to date until its nextUpdate, if it did not pass yet.
+     * Otherwise, distribution point still serves CRL past its nextUpdate, so it is used for the time response allows.
+     */
+    private long getFreshUntil(X509CRL crl, DistributionPointResponse response, long now) {
+        return Optional.ofNullable(crl.getNextUpdate())
+            .map(Date::getTime)
+            .filter(time -> time > now)
+            .or(() -> response.findFreshUntil().filter(time -> time > now))
+            .orElse(now + revalidationTtlMillis);
+    }
+
+    private synchronized void scheduleRefresh(String url, CachedCrl cached, long delay) {
+        if (!backgroundRefresh) {
+            return;
+        }
+
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "verifier-crl-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduler.schedule(() -> refresh(url, cached), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(String url, CachedCrl cached) {
+        if (cache.get(url) != cached) {
+            // already replaced by newer download, which scheduled its own refresh
+            return;
+        }
+        if (cached.getLastAccessed() <= cached.getFetchedAt()) {
+            log.debug("CRL was not used since last download, skipping background refresh: {}", url);
+            return;
+        }
+
+        try {
+            downloads.execute(url, () -> download(url, cached.getDownloader(), cached.getParser()));
+            log.debug("CRL refreshed in background: {}", url);
+        } catch (Exception e) {
+            log.warn("Failed to refresh CRL from {} in background: {}", url, e.getMessage());
+            if (System.currentTimeMillis() + REFRESH_RETRY_INTERVAL_MILLIS < cached.getExpiry()) {
+                scheduleRefresh(url, cached, REFRESH_RETRY_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedCrl {
+
+        private final X509CRL crl;
+        private final RevokedSerials revokedSerials;
+        private final ConditionalDownloader downloader;
+        private final Function<byte[], X509CRL> parser;
+        private final HttpValidators validators;
+        private final long fetchedAt;
+        private final long nextUpdate;
+        private final long expiry;
+
+        @Setter
+        private volatile long lastAccessed;
+    }
+}
@@ -45,12 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigInteger;
 import java.security.Principal;
 import java.security.cert.X509CRL;
-import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
-import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Optional;
 
 @Slf4j
 @Getter(AccessLevel.PACKAGE)
@@ -112,7 +109,7 @@ public class CrlVerifier {
         final X509CRL crl = crlProvider.getCrl(crlUrl);
         verifyCrlSignature(crl, certificateChainIterator.nextIndex());
 
-        if (isRevoked(crl, serialNumber)) {
+        if (isRevoked(crlUrl, crl, serialNumber)) {
             checkIfIntermediateRevoked(certificateChainIterator, serialNumber);
             return false;
         }
@@ -146,15 +143,10 @@ public class CrlVerifier {
         }
     }
 
-    private boolean isRevoked(X509CRL crl, BigInteger serialNumber) {
+    private boolean isRevoked(String crlUrl, X509CRL crl, BigInteger serialNumber) {
         log.debug("Verifying certificate revocation.");
 
-        return Optional
-            .ofNullable(crl.getRevokedCertificates())
-            .orElse(Collections.emptySet())
-            .stream()
-            .map(X509CRLEntry::getSerialNumber)
-            .anyMatch(x -> x.equals(serialNumber));
+        return crlProvider.getRevokedSerials(crlUrl, crl).contains(serialNumber);
     }
 }
 
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.service.certificate;
 
 import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.model.DistributionPoint;
@@ -58,6 +59,8 @@ public class DiceAttestationRevocationService {
     private final DiceAliasChainVerifier diceAliasChainVerifier;
     private final X509CertificateParser certificateParser;
     private final DistributionPointAddressProvider addressProvider;
+    private final CertificateCache certificateCache;
+    private final ICrlProvider crlProvider;
 
     private final LinkedList<X509Certificate> certificates = new LinkedList<>();
     private final LinkedList<X509Certificate> certificatesIID = new LinkedList<>();
@@ -67,14 +70,23 @@ public class DiceAttestationRevocationService {
     }
 
     public DiceAttestationRevocationService(AppContext appContext) {
-        this(appContext.getLibConfig().getDistributionPoint());
+        this(appContext.getLibConfig().getDistributionPoint(), appContext.getCertificateCache(),
+            appContext.getCrlCache(), appContext.getDistributionPointClients());
     }
 
-    public DiceAttestationRevocationService(DistributionPoint dp) {
-        this(new DistributionPointConnector(dp.getProxy()),
-            new DiceAliasChainVerifier(new DistributionPointCrlProvider(dp.getProxy()), dp.getTrustedRootHash()),
+    public DiceAttestationRevocationService(DistributionPoint dp, CertificateCache certificateCache,
+                                            CrlCache crlCache, DistributionPointClients clients) {
+        this(dp, certificateCache, clients, new DistributionPointCrlProvider(dp.getProxy(), crlCache, clients));
+    }
+
+    private DiceAttestationRevocationService(DistributionPoint dp, CertificateCache certificateCache,
+                                             DistributionPointClients clients, ICrlProvider crlProvider) {
+        this(new DistributionPointConnector(dp.getProxy(), clients),
+            new DiceAliasChainVerifier(crlProvider, dp.getTrustedRootHash()),
             new X509CertificateParser(),
-            new DistributionPointAddressProvider(dp.getPathCer()));
+            new DistributionPointAddressProvider(dp.getPathCer()),
+            certificateCache,
+            crlProvider);
     }
 
     public DiceAttestationRevocationService withDeviceId(byte[] deviceId) {
@@ -106,12 +118,13 @@ public class DiceAttestationRevocationService {
     }
 
     public Optional<X509Certificate> getContent(String url) {
-        return connector.tryGetBytes(url)
-            .map(certificateParser::toX509);
+        return certificateCache.get(url, (path, validators) -> connector.tryGetBytes(path, validators),
+            certificateParser::toX509);
     }
 
     public void verifyChains() {
         preVerifyChain();
+        prefetchCrls();
         fetchParents();
         verifyChainsInternal();
     }
@@ -123,11 +136,22 @@ public class DiceAttestationRevocationService {
         }
     }
 
+    private void prefetchCrls() {
+        // CRLs are downloaded in background while parents are fetched, so chain verification does not wait for them
+        certificates.forEach(this::prefetchCrl);
+        certificatesIID.forEach(this::prefetchCrl);
+    }
+
+    private void prefetchCrl(X509Certificate certificate) {
+        certificateParser.getPathToCrlDistributionPoint(certificate).ifPresent(crlProvider::prefetch);
+    }
+
     private void fetchParents() {
         getParent(certificates.getLast());
 
         while (!X509CertificateUtils.isSelfSigned(certificates.getLast())) {
             log.debug("Not self-signed cert, moving on: {}", certificates.getLast().getSubjectDN());
+            prefetchCrl(certificates.getLast());
             getParent(certificates.getLast());
         }
     }
@@ -143,8 +167,8 @@ public class DiceAttestationRevocationService {
     }
 
     private void getParent(X509Certificate child) {
-        final String nextPathToIssuer = certificateParser.getPathToIssuerCertificate(child);
-        final Optional<X509Certificate> nextParentCert = getContent(nextPathToIssuer);
+        final Optional<X509Certificate> nextParentCert = findTrustedRoot(child)
+            .or(() -> getContent(certificateParser.getPathToIssuerCertificate(child)));
 
         nextParentCert.ifPresentOrElse(this::addParentToChains,
             () -> {
@@ -153,6 +177,15 @@ public class DiceAttestationRevocationService {
         );
     }
 
+    private Optional<X509Certificate> findTrustedRoot(X509Certificate child) {
+        return Optional.ofNullable(diceAliasChainVerifier.getTrustedRootHash())
+            .flatMap(trustedRootHash -> trustedRootHash.getDiceAnchor().findIssuerOf(child))
+            .map(root -> {
+                log.debug("Using trusted root certificate from local trust store: {}", root.getSubjectDN());
+                return root;
+            });
+    }
+
     private void addParentToChains(X509Certificate x509Certificate) {
         certificates.add(x509Certificate);
         if (certificatesIID.size() != 0) {
@@ -98,7 +98,7 @@ public abstract class DiceChainVerifierBase {
             handleVerificationFailure("One of certificates in X509 attestation chain has invalid SKI extension value.");
         }
 
-        if (!rootHashVerifier.verifyRootHash(certificates.getLast(), trustedRootHash.getDice())) {
+        if (!rootHashVerifier.verifyRootHash(certificates.getLast(), trustedRootHash.getDiceAnchor())) {
             handleVerificationFailure("Root hash in X509 DICE chain is different from trusted root hash.");
         }
 
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.service.certificate;
 
 import com.intel.bkp.ext.crypto.exceptions.X509CrlParsingException;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
 import com.intel.bkp.verifier.exceptions.X509ParsingException;
 import com.intel.bkp.verifier.model.Proxy;
@@ -42,6 +43,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509CRL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import static com.intel.bkp.ext.crypto.x509.X509CrlParser.toX509Crl;
 
@@ -50,14 +59,55 @@ import static com.intel.bkp.ext.crypto.x509.X509CrlParser.toX509Crl;
 public class DistributionPointCrlProvider implements ICrlProvider {
 
     private final DistributionPointConnector connector;
+    private final CrlCache crlCache;
+    // resolved on each prefetch, as executor of clients is replaced after they are closed
+    private final Supplier<Executor> prefetchExecutor;
 
-    public DistributionPointCrlProvider(Proxy proxy) {
-        this(new DistributionPointConnector(proxy));
+    private final Map<String, CompletableFuture<X509CRL>> prefetched = new ConcurrentHashMap<>();
+
+    public DistributionPointCrlProvider(Proxy proxy, CrlCache crlCache, DistributionPointClients clients) {
+        this(new DistributionPointConnector(proxy, clients), crlCache, clients::getPrefetchExecutor);
     }
 
     @Override
     public X509CRL getCrl(String crlUrl) {
-        final byte[] crlBytes = connector.getBytes(crlUrl);
+        final CompletableFuture<X509CRL> pending = prefetched.remove(crlUrl);
+        if (pending == null) {
+            return getCrlInternal(crlUrl);
+        }
+
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void prefetch(String crlUrl) {
+        try {
+            prefetched.computeIfAbsent(crlUrl,
+                url -> CompletableFuture.supplyAsync(() -> getCrlInternal(url), prefetchExecutor.get()));
+        } catch (RejectedExecutionException e) {
+            // clients were closed meanwhile - CRL is downloaded synchronously by getCrl instead
+            log.debug("CRL prefetch rejected, it will be downloaded when needed: {}", crlUrl);
+        }
+    }
+
+    @Override
+    public RevokedSerials getRevokedSerials(String crlUrl, X509CRL crl) {
+        return crlCache.getRevokedSerials(crlUrl, crl);
+    }
+
+    private X509CRL getCrlInternal(String crlUrl) {
+        return crlCache.get(crlUrl, (url, validators) -> Optional.of(connector.getBytes(url, validators)),
+            crlBytes -> parseCrl(crlUrl, crlBytes));
+    }
+
+    private X509CRL parseCrl(String crlUrl, byte[] crlBytes) {
         try {
             return toX509Crl(crlBytes);
         } catch (X509CrlParsingException e) {
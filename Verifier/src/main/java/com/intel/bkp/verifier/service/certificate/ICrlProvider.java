@@ -38,4 +38,18 @@ import java.security.cert.X509CRL;
 public interface ICrlProvider {
 
     X509CRL getCrl(String crlUrl);
+
+    /**
+     * Hints that CRL will be requested soon, so provider may start downloading it in background.
+     */
+    default void prefetch(String crlUrl) {
+    }
+
+    /**
+     * Returns index of serial numbers revoked by CRL previously returned from {@link #getCrl(String)}.
+     * Providers that keep CRLs between calls should keep the index as well, so it is built once per CRL.
+     */
+    default RevokedSerials getRevokedSerials(String crlUrl, X509CRL crl) {
+        return RevokedSerials.from(crl);
+    }
 }
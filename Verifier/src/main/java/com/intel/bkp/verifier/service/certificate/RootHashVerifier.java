@@ -33,35 +33,23 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
-import com.intel.bkp.ext.crypto.CryptoUtils;
-import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.model.TrustAnchor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 
-import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 
 @Slf4j
 public class RootHashVerifier {
 
     public boolean verifyRootHash(X509Certificate rootCert, String trustedRootHash) {
-        if (StringUtils.isBlank(trustedRootHash)) {
-            log.debug("Skipping root hash verification - trusted root hash was not provided.");
-            return true;
-        }
-        return getCertificateFingerprint(rootCert).equalsIgnoreCase(trustedRootHash);
+        return verifyRootHash(rootCert, TrustAnchor.from(trustedRootHash));
     }
 
-    private String getCertificateFingerprint(X509Certificate certificate) {
-        final byte[] certificateBytes = getCertificateContent(certificate);
-        return CryptoUtils.generateSha256Fingerprint(certificateBytes);
-    }
-
-    private byte[] getCertificateContent(X509Certificate certificate) {
-        try {
-            return certificate.getEncoded();
-        } catch (CertificateEncodingException e) {
-            throw new InternalLibraryException("Failed to get bytes from X509 certificate.", e);
+    public boolean verifyRootHash(X509Certificate rootCert, TrustAnchor trustAnchor) {
+        if (!trustAnchor.isConfigured()) {
+            log.debug("Skipping root hash verification - trusted root hash was not provided.");
+            return true;
         }
+        return trustAnchor.matches(rootCert);
     }
 }
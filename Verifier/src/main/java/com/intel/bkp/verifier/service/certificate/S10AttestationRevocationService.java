@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.service.certificate;
 
 import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
 import com.intel.bkp.verifier.model.DistributionPoint;
 import com.intel.bkp.verifier.model.s10.S10Params;
@@ -46,6 +47,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.util.LinkedList;
+import java.util.Optional;
 
 @Slf4j
 @Getter(AccessLevel.PACKAGE)
@@ -56,6 +58,7 @@ public class S10AttestationRevocationService {
     private final S10ChainVerifier s10ChainVerifier;
     private final DistributionPointConnector connector;
     private final DistributionPointAddressProvider addressProvider;
+    private final CertificateCache certificateCache;
 
     private final LinkedList<X509Certificate> certificates = new LinkedList<>();
 
@@ -64,14 +67,18 @@ public class S10AttestationRevocationService {
     }
 
     public S10AttestationRevocationService(AppContext appContext) {
-        this(appContext.getLibConfig().getDistributionPoint());
+        this(appContext.getLibConfig().getDistributionPoint(), appContext.getCertificateCache(),
+            appContext.getCrlCache(), appContext.getDistributionPointClients());
     }
 
-    public S10AttestationRevocationService(DistributionPoint dp) {
+    public S10AttestationRevocationService(DistributionPoint dp, CertificateCache certificateCache,
+                                           CrlCache crlCache, DistributionPointClients clients) {
         this(new X509CertificateParser(),
-            new S10ChainVerifier(new DistributionPointCrlProvider(dp.getProxy()), dp.getTrustedRootHash()),
-            new DistributionPointConnector(dp.getProxy()),
-            new DistributionPointAddressProvider(dp.getPathCer()));
+            new S10ChainVerifier(new DistributionPointCrlProvider(dp.getProxy(), crlCache, clients),
+                dp.getTrustedRootHash()),
+            new DistributionPointConnector(dp.getProxy(), clients),
+            new DistributionPointAddressProvider(dp.getPathCer()),
+            certificateCache);
     }
 
     public PublicKey checkAndRetrieve(byte[] deviceId, String pufTypeHex) {
@@ -111,11 +118,24 @@ public class S10AttestationRevocationService {
     }
 
     private X509Certificate getParent(X509Certificate child) {
-        final String parentPath = certificateParser.getPathToIssuerCertificate(child);
-        return downloadCertificate(parentPath);
+        return findTrustedRoot(child).orElseGet(() -> {
+            final String parentPath = certificateParser.getPathToIssuerCertificate(child);
+            return downloadCertificate(parentPath);
+        });
+    }
+
+    private Optional<X509Certificate> findTrustedRoot(X509Certificate child) {
+        return Optional.ofNullable(s10ChainVerifier.getTrustedRootHash())
+            .flatMap(trustedRootHash -> trustedRootHash.getS10Anchor().findIssuerOf(child))
+            .map(root -> {
+                log.debug("Using trusted root certificate from local trust store: {}", root.getSubjectDN());
+                return root;
+            });
     }
 
     private X509Certificate downloadCertificate(String url) {
-        return certificateParser.toX509(connector.getBytes(url));
+        return certificateCache.get(url, (path, validators) -> Optional.of(connector.getBytes(path, validators)),
+                certificateParser::toX509)
+            .orElseThrow();
     }
 }
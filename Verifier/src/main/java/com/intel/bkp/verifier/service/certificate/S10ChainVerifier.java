@@ -85,7 +85,7 @@ public class S10ChainVerifier {
             handleVerificationFailure("Attestation certificate is invalid.");
         }
 
-        if (!rootHashVerifier.verifyRootHash(rootCert, trustedRootHash.getS10())) {
+        if (!rootHashVerifier.verifyRootHash(rootCert, trustedRootHash.getS10Anchor())) {
             handleVerificationFailure("Root hash in X509 attestation chain is different from trusted root hash.");
         }
 
@@ -33,18 +33,27 @@
 
 package com.intel.bkp.verifier.service.dto;
 
-import lombok.AllArgsConstructor;
+import com.intel.bkp.verifier.model.AttestationPhase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class VerifierExchangeResponseDTO implements Serializable {
     private int status;
     private String deviceId;
+    private String transportId;
+    // duration of each completed phase in milliseconds
+    private Map<AttestationPhase, Long> phaseTimings = new EnumMap<>(AttestationPhase.class);
+
+    public VerifierExchangeResponseDTO(int status, String deviceId) {
+        this.status = status;
+        this.deviceId = deviceId;
+    }
 }
@@ -34,19 +34,44 @@
 package com.intel.bkp.verifier.service.measurements;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.intel.bkp.verifier.model.evidence.Rim;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Slf4j
 @NoArgsConstructor
 public class RimParser {
 
+    private static final int PARSED_RIM_CACHE_SIZE = 16;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // the same reference measurement is typically verified against many devices, so it is tokenized only once;
+    // cached trees are only read, and every call binds its own Rim that the caller may freely modify
+    private static final Map<String, JsonNode> PARSED_RIM_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<>(PARSED_RIM_CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+                return size() > PARSED_RIM_CACHE_SIZE;
+            }
+        });
+
     public Rim parse(String refMeasurements) {
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            return mapper.readValue(refMeasurements, Rim.class);
+            JsonNode tree = PARSED_RIM_CACHE.get(refMeasurements);
+            if (tree == null) {
+                tree = MAPPER.readTree(refMeasurements);
+                if (tree.isMissingNode()) {
+                    throw new IllegalArgumentException("Failed to parse evidence - no content.");
+                }
+                PARSED_RIM_CACHE.put(refMeasurements, tree);
+            }
+            return MAPPER.treeToValue(tree, Rim.class);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Failed to parse evidence.", e);
         }
@@ -33,9 +33,15 @@
 
 package com.intel.bkp.verifier.transport.hps;
 
+import com.intel.bkp.verifier.command.MailboxCommandLayer;
+import com.intel.bkp.verifier.command.header.CommandHeaderManager;
+import com.intel.bkp.verifier.command.messages.chip.GetChipIdMessageBuilder;
+import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.interfaces.TransportLayer;
+import com.intel.bkp.verifier.model.CommandIdentifier;
 import com.intel.bkp.verifier.transport.tcp.TcpClient;
 import com.intel.bkp.verifier.transport.tcp.TcpConfig;
+import com.intel.bkp.verifier.transport.tcp.TcpConnectionPool;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,26 +50,66 @@ import static com.intel.bkp.ext.utils.HexConverter.toHex;
 @Slf4j
 public class HpsTransportImpl implements TransportLayer {
 
+    private static final byte[] GET_CHIPID = new MailboxCommandLayer()
+        .create(new GetChipIdMessageBuilder().build(), CommandIdentifier.GET_CHIPID);
+
+    private static final TcpConnectionPool<TcpConfig, TcpClient> CONNECTION_POOL =
+        new TcpConnectionPool<>(HpsTransportImpl::connect, HpsTransportImpl::probe);
+
     @Setter
-    private TcpClient client = new TcpClient();
+    private TcpConnectionPool<TcpConfig, TcpClient> connectionPool = CONNECTION_POOL;
+
+    private TcpConfig tcpConfig;
+    private TcpClient client;
+
+    /**
+     * Closes idle connections of pool shared by all instances.
+     */
+    public static void closeConnectionPool() {
+        CONNECTION_POOL.close();
+    }
 
     @Override
     public void initialize(String connectionConfig) {
-        TcpConfig tcpConfig = new TcpConfig(connectionConfig);
-
-        client.initialize(tcpConfig);
+        tcpConfig = new TcpConfig(connectionConfig);
+        client = connectionPool.acquire(tcpConfig);
     }
 
     @Override
     public byte[] sendCommand(byte[] command) {
+        if (client == null) {
+            throw new TransportLayerException("Connection to not initialized.");
+        }
+
         log.debug("Sending command: {}", toHex(command));
-        byte[] result = client.sendPacket(command);
+        final byte[] result;
+        try {
+            result = client.sendPacket(command);
+        } catch (TransportLayerException e) {
+            // connection is in unknown state, so it must not be returned to pool
+            client.disconnect();
+            throw e;
+        }
         log.debug("Command result: {}", toHex(result));
         return result;
     }
 
     @Override
     public void disconnect() {
-        client.disconnect();
+        if (client != null) {
+            connectionPool.release(tcpConfig, client);
+            client = null;
+        }
+    }
+
+    private static TcpClient connect(TcpConfig config) {
+        final TcpClient tcpClient = new TcpClient();
+        tcpClient.initialize(config);
+        return tcpClient;
+    }
+
+    private static void probe(TcpClient tcpClient) {
+        CommandHeaderManager.validateCommandHeaderCode(tcpClient.sendPacket(GET_CHIPID),
+            CommandIdentifier.GET_CHIPID.name());
     }
 }
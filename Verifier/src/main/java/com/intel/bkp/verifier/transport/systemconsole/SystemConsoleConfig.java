@@ -34,11 +34,13 @@
 package com.intel.bkp.verifier.transport.systemconsole;
 
 import com.intel.bkp.verifier.transport.tcp.TcpConfig;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 @Getter
 @SuperBuilder
+@EqualsAndHashCode(callSuper = true)
 public class SystemConsoleConfig extends TcpConfig {
 
     private static final String ERROR_CABLE = "Error parsing cableID in transportID";
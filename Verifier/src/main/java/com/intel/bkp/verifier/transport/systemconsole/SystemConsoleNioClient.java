@@ -44,6 +44,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SystemConsoleNioClient extends TcpClient {
 
+    public SystemConsoleNioClient() {
+        super(new TclScriptResponseFraming());
+    }
+
     /**
      * Sends packet using socket with or without response.
      */
@@ -61,7 +65,8 @@ public class SystemConsoleNioClient extends TcpClient {
     }
 
     private String processResponse(String response) {
-        final String replacePattern = "puts stdout|\"|tcl>|return\\s(.*)|COMMAND\\s=\\s(.*)|COMMAND_RESULT\\s=\\s";
+        final String replacePattern = "puts stdout|\"|tcl>|return\\s(.*)|COMMAND\\s=\\s(.*)|COMMAND_RESULT\\s=\\s|"
+            + TclCommands.END_OF_SCRIPT;
         return Arrays.stream(response.split("\n"))
             .map(s -> s.replaceAll(replacePattern, "").trim())
             .filter(StringUtils::isNotBlank)
@@ -33,27 +33,70 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.command.MailboxCommandLayer;
+import com.intel.bkp.verifier.command.header.CommandHeaderManager;
+import com.intel.bkp.verifier.command.messages.chip.GetChipIdMessageBuilder;
+import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.interfaces.TransportLayer;
+import com.intel.bkp.verifier.model.CommandIdentifier;
+import com.intel.bkp.verifier.transport.tcp.TcpConnectionPool;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class SystemConsoleTransportImpl implements TransportLayer {
 
+    private static final TclCommands TCL_COMMANDS = new TclCommands();
+
+    private static final byte[] GET_CHIPID = new MailboxCommandLayer()
+        .create(new GetChipIdMessageBuilder().build(), CommandIdentifier.GET_CHIPID);
+
+    private static final TcpConnectionPool<SystemConsoleConfig, SystemConsoleNioClient> CONNECTION_POOL =
+        new TcpConnectionPool<>(SystemConsoleTransportImpl::connect, SystemConsoleTransportImpl::probe);
+
     @Setter
-    private SystemConsoleNioClient client = new SystemConsoleNioClient();
+    private TcpConnectionPool<SystemConsoleConfig, SystemConsoleNioClient> connectionPool = CONNECTION_POOL;
 
-    private static final TclCommands TCL_COMMANDS = new TclCommands();
+    private SystemConsoleConfig systemConsoleConfig;
+    private SystemConsoleNioClient client;
+
+    /**
+     * Closes idle connections of pool shared by all instances.
+     */
+    public static void closeConnectionPool() {
+        CONNECTION_POOL.close();
+    }
 
     @Override
     public void initialize(String config) {
-        SystemConsoleConfig systemConsoleConfig = new SystemConsoleConfig(config);
-        client.initialize(systemConsoleConfig);
-        client.sendPacket(TCL_COMMANDS.initialize(systemConsoleConfig.getCableId()));
+        systemConsoleConfig = new SystemConsoleConfig(config);
+        client = connectionPool.acquire(systemConsoleConfig);
     }
 
     @Override
     public byte[] sendCommand(byte[] command) {
+        if (client == null) {
+            throw new TransportLayerException("Connection to not initialized.");
+        }
+
+        try {
+            return sendCommand(client, command);
+        } catch (TransportLayerException e) {
+            // connection is in unknown state, so it must not be returned to pool
+            client.disconnect();
+            throw e;
+        }
+    }
+
+    @Override
+    public void disconnect() {
+        if (client != null) {
+            connectionPool.release(systemConsoleConfig, client);
+            client = null;
+        }
+    }
+
+    private static byte[] sendCommand(SystemConsoleNioClient client, byte[] command) {
         String formattedHexCommand = SystemConsoleHexConverter.toString(command);
         log.debug("Sending command: {}", formattedHexCommand);
         String result = client.sendPacket(TCL_COMMANDS.sendPacket(formattedHexCommand));
@@ -61,8 +104,15 @@ public class SystemConsoleTransportImpl implements TransportLayer {
         return SystemConsoleHexConverter.fromString(result);
     }
 
-    @Override
-    public void disconnect() {
-        client.disconnect();
+    private static SystemConsoleNioClient connect(SystemConsoleConfig config) {
+        final SystemConsoleNioClient nioClient = new SystemConsoleNioClient();
+        nioClient.initialize(config);
+        nioClient.sendPacket(TCL_COMMANDS.initialize(config.getCableId()));
+        return nioClient;
+    }
+
+    private static void probe(SystemConsoleNioClient nioClient) {
+        CommandHeaderManager.validateCommandHeaderCode(sendCommand(nioClient, GET_CHIPID),
+            CommandIdentifier.GET_CHIPID.name());
     }
 }
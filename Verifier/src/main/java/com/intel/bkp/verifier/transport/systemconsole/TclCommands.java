@@ -46,6 +46,8 @@ public class TclCommands {
 
     static final String TRANSPORT_ID = "!!TRANSPORT_ID!!";
     static final String COMMAND = "!!COMMAND!!";
+    // scripts print it as [string toupper "end_of_script"], so that it appears only in output, never in echo of input
+    static final String END_OF_SCRIPT = "END_OF_SCRIPT";
 
     public String initialize(int transportId) {
         final String scriptRaw = loadScriptFile("initialize-script.txt");
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.transport.tcp;
 
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import com.intel.bkp.verifier.interfaces.IResponseFraming;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -41,17 +42,37 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 
 @Slf4j
 public class TcpClient {
 
-    private static final int SLEEP_BEFORE_READ_RESPONSE = 1000; // 1 second
     static final int RESPONSE_ALLOCATED_SIZE = 1024 * 32;
 
+    private final IResponseFraming responseFraming;
+
+    /**
+     * Channel used as-is, without a selector. Response timeout is not enforced for such channel - a blocking
+     * channel waits in read until the peer responds or closes the connection, because socket timeout does not
+     * apply to channel reads. Use {@link #initialize(TcpConfig)} when response timeout is required.
+     */
     @Setter
     private SocketChannel socketChannel;
 
+    private Selector selector;
+
+    private int responseTimeout = TcpConfig.DEFAULT_RESPONSE_TIMEOUT;
+
+    public TcpClient() {
+        this(new MailboxResponseFraming());
+    }
+
+    protected TcpClient(IResponseFraming responseFraming) {
+        this.responseFraming = responseFraming;
+    }
+
     /**
      * Opens socket connection to Tcp server.
      *
@@ -62,6 +83,10 @@ public class TcpClient {
         try {
             InetSocketAddress socketAddress = new InetSocketAddress(config.getHost(), config.getPort());
             socketChannel = SocketChannel.open(socketAddress);
+            socketChannel.configureBlocking(false);
+            selector = Selector.open();
+            socketChannel.register(selector, SelectionKey.OP_READ);
+            responseTimeout = config.getResponseTimeout();
         } catch (Exception e) {
             throw new TransportLayerException("Failed to open socket", e);
         }
@@ -72,36 +97,88 @@ public class TcpClient {
      */
     @SneakyThrows
     public void disconnect() {
+        if (selector != null) {
+            selector.close();
+            selector = null;
+        }
         if (socketChannel != null) {
             socketChannel.close();
         }
     }
 
+    public boolean isConnected() {
+        return socketChannel != null && socketChannel.isOpen() && socketChannel.isConnected();
+    }
+
+    /**
+     * Sends packet and reads response until it is complete according to response framing.
+     *
+     * @param currentCommand command bytes
+     * @return response bytes
+     * @throws TransportLayerException if response is not complete within response timeout (only for connection
+     *                                 opened by {@link #initialize(TcpConfig)})
+     */
     public byte[] sendPacket(byte[] currentCommand) {
         if (socketChannel == null) {
             throw new TransportLayerException("Connection to not initialized.");
         }
 
         try {
-            socketChannel.write(ByteBuffer.wrap(currentCommand));
-            Thread.sleep(SLEEP_BEFORE_READ_RESPONSE);
-            ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
-            final int readBytesCnt = socketChannel.read(responseBuffer);
-            log.debug("Read {} bytes from socket.", readBytesCnt);
-            if (readBytesCnt <= 0) {
-                throw new TransportLayerException("No response bytes received.");
+            write(currentCommand);
+            return readResponse(System.currentTimeMillis() + responseTimeout);
+        } catch (IOException e) {
+            throw new TransportLayerException("Failed to send packet", e);
+        }
+    }
+
+    private void write(byte[] command) throws IOException {
+        final ByteBuffer commandBuffer = ByteBuffer.wrap(command);
+        do {
+            socketChannel.write(commandBuffer);
+        } while (isNonBlocking() && commandBuffer.hasRemaining());
+    }
+
+    private byte[] readResponse(long deadline) throws IOException {
+        final ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
+        int readBytesCnt = 0;
+        do {
+            awaitResponseBytes(deadline);
+            final int chunkSize = socketChannel.read(responseBuffer);
+            if (chunkSize < 0) {
+                throw new TransportLayerException(readBytesCnt == 0
+                                                  ? "No response bytes received."
+                                                  : "Connection closed before full response was received.");
             }
+            readBytesCnt += chunkSize;
             if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
                 throw new TransportLayerException("Response exceeded max allocated size.");
             }
+        } while (!responseFraming.isComplete(responseBuffer.array(), readBytesCnt));
 
-            final byte[] response = new byte[readBytesCnt];
-            responseBuffer.rewind();
-            responseBuffer.get(response);
+        log.debug("Read {} bytes from socket.", readBytesCnt);
 
-            return response;
-        } catch (IOException | InterruptedException e) {
-            throw new TransportLayerException("Failed to send packet", e);
+        final byte[] response = new byte[readBytesCnt];
+        responseBuffer.rewind();
+        responseBuffer.get(response);
+
+        return response;
+    }
+
+    private void awaitResponseBytes(long deadline) throws IOException {
+        // without selector the deadline cannot be applied, see socketChannel
+        if (!isNonBlocking()) {
+            return;
         }
+
+        final long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0 || selector.select(remaining) == 0 && System.currentTimeMillis() >= deadline) {
+            throw new TransportLayerException(
+                String.format("Response not received within %d ms.", responseTimeout));
+        }
+        selector.selectedKeys().clear();
+    }
+
+    private boolean isNonBlocking() {
+        return selector != null;
     }
 }
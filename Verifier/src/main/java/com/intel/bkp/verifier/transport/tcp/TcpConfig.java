@@ -34,27 +34,42 @@
 package com.intel.bkp.verifier.transport.tcp;
 
 import com.intel.bkp.verifier.utils.RegexUtils;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.lang3.StringUtils;
 
 @Getter
 @SuperBuilder
+@EqualsAndHashCode
 public class TcpConfig {
 
     private static final String ERROR_HOST = "Error parsing host in transportId";
     private static final String ERROR_PORT = "Error parsing port number in transportId";
+    private static final String ERROR_TIMEOUT = "Error parsing response timeout in transportId";
     private static final String PATTERN_HOST = "host:([^;]*)";
     private static final String PATTERN_PORT = "port:([^;]*)";
+    private static final String PATTERN_TIMEOUT = "timeout:([^;]*)";
+
+    public static final int DEFAULT_RESPONSE_TIMEOUT = 30000; // 30 seconds
 
     private String host;
     private Integer port;
 
+    @Builder.Default
+    private int responseTimeout = DEFAULT_RESPONSE_TIMEOUT;
+
     public TcpConfig(String transportId) {
         final String transportIdFormatted = removeWhitespaces(transportId);
 
         host = parseString(transportIdFormatted, PATTERN_HOST, ERROR_HOST);
         port = parseInteger(transportIdFormatted, PATTERN_PORT, ERROR_PORT);
+        responseTimeout = parseOptionalInteger(transportIdFormatted, PATTERN_TIMEOUT, ERROR_TIMEOUT,
+            DEFAULT_RESPONSE_TIMEOUT);
+        if (responseTimeout <= 0) {
+            throw new IllegalArgumentException(ERROR_TIMEOUT);
+        }
     }
 
     protected static String removeWhitespaces(String str) {
@@ -76,4 +91,11 @@ public class TcpConfig {
             throw new IllegalArgumentException(errorMessage, e);
         }
     }
+
+    protected static int parseOptionalInteger(String str, String pattern, String errorMessage, int defaultValue) {
+        if (StringUtils.isBlank(RegexUtils.getByPattern(str, pattern))) {
+            return defaultValue;
+        }
+        return parseInteger(str, pattern, errorMessage);
+    }
 }
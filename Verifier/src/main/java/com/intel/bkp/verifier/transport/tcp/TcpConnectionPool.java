@@ -0,0 +1,221 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.tcp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps connections to FCS server / System Console warm between API calls.
+ * Connections are pooled per transport configuration, evicted when idle for too long and validated with health probe
+ * before reuse if they were not used recently. At most maxIdlePerKey idle connections are kept per configuration.
+ * While any connection is idle, background sweep evicts expired ones, so they are closed even if pool is not used.
+ */
+@Slf4j
+public class TcpConnectionPool<C extends TcpConfig, T extends TcpClient> {
+
+    static final long DEFAULT_MAX_IDLE_TIME = 5 * 60 * 1000; // 5 minutes
+    static final long DEFAULT_VALIDATION_INTERVAL = 10 * 1000; // 10 seconds
+    static final int DEFAULT_MAX_IDLE_PER_KEY = 4;
+    static final long SWEEP_INTERVAL = 30 * 1000; // 30 seconds
+
+    private final Function<C, T> connector;
+    private final Consumer<T> healthProbe;
+    private final long maxIdleTime;
+    private final long validationInterval;
+    private final int maxIdlePerKey;
+
+    private final Map<C, Deque<IdleConnection<T>>> idleConnections = new HashMap<>();
+
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * Creates connection pool.
+     *
+     * @param connector opens and prepares new connection
+     * @param healthProbe throws exception if connection is not usable anymore
+     */
+    public TcpConnectionPool(Function<C, T> connector, Consumer<T> healthProbe) {
+        this(connector, healthProbe, DEFAULT_MAX_IDLE_TIME, DEFAULT_VALIDATION_INTERVAL, DEFAULT_MAX_IDLE_PER_KEY);
+    }
+
+    TcpConnectionPool(Function<C, T> connector, Consumer<T> healthProbe,
+                      long maxIdleTime, long validationInterval, int maxIdlePerKey) {
+        this.connector = connector;
+        this.healthProbe = healthProbe;
+        this.maxIdleTime = maxIdleTime;
+        this.validationInterval = validationInterval;
+        this.maxIdlePerKey = maxIdlePerKey;
+    }
+
+    /**
+     * Returns healthy idle connection for given configuration or opens new one.
+     */
+    public T acquire(C config) {
+        IdleConnection<T> idleConnection;
+        while ((idleConnection = pollIdle(config)) != null) {
+            if (isUsable(idleConnection)) {
+                log.debug("Reusing connection to {}:{}", config.getHost(), config.getPort());
+                return idleConnection.getClient();
+            }
+            idleConnection.getClient().disconnect();
+        }
+
+        log.debug("Opening new connection to {}:{}", config.getHost(), config.getPort());
+        return connector.apply(config);
+    }
+
+    /**
+     * Returns connection to pool. Connections that are already closed are dropped, as well as connections above
+     * max number of idle connections for given configuration.
+     */
+    public void release(C config, T client) {
+        if (!client.isConnected()) {
+            return;
+        }
+
+        synchronized (this) {
+            evictIdle();
+            final Deque<IdleConnection<T>> connections = idleConnections.computeIfAbsent(config,
+                key -> new ArrayDeque<>());
+            if (connections.size() >= maxIdlePerKey) {
+                log.debug("Too many idle connections to {}:{}, closing connection", config.getHost(),
+                    config.getPort());
+                client.disconnect();
+                return;
+            }
+            connections.push(new IdleConnection<>(client, System.currentTimeMillis()));
+            startSweeper();
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops background sweep. Pool can still be used afterwards.
+     */
+    public synchronized void close() {
+        idleConnections.values().forEach(connections -> connections.forEach(c -> c.getClient().disconnect()));
+        idleConnections.clear();
+        stopSweeper();
+    }
+
+    /**
+     * Evicts expired idle connections. Background sweep stops when no idle connection is left.
+     */
+    synchronized void sweep() {
+        evictIdle();
+        if (idleConnections.isEmpty()) {
+            stopSweeper();
+        }
+    }
+
+    synchronized boolean isSweeping() {
+        return sweeper != null;
+    }
+
+    private synchronized IdleConnection<T> pollIdle(C config) {
+        evictIdle();
+        final Deque<IdleConnection<T>> connections = idleConnections.get(config);
+        return connections == null ? null : connections.pollFirst();
+    }
+
+    private void startSweeper() {
+        if (sweeper != null) {
+            return;
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "verifier-connection-pool-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    private boolean isUsable(IdleConnection<T> idleConnection) {
+        final T client = idleConnection.getClient();
+        if (!client.isConnected()) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() - idleConnection.getIdleSince() < validationInterval) {
+            return true;
+        }
+
+        try {
+            healthProbe.accept(client);
+            return true;
+        } catch (Exception e) {
+            log.debug("Health probe on idle connection failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictIdle() {
+        final long now = System.currentTimeMillis();
+        idleConnections.values().forEach(connections -> connections.removeIf(c -> {
+            final boolean expired = now - c.getIdleSince() >= maxIdleTime;
+            if (expired) {
+                c.getClient().disconnect();
+            }
+            return expired;
+        }));
+        idleConnections.values().removeIf(Deque::isEmpty);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class IdleConnection<T> {
+
+        private final T client;
+        private final long idleSince;
+    }
+}
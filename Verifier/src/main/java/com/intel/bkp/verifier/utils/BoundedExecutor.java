@@ -0,0 +1,104 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.utils;
+
+import com.intel.bkp.verifier.model.ConcurrencyConfig;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs at most maxConcurrent tasks on delegate executor at once. Remaining tasks wait in queue without occupying
+ * any thread. With {@link ConcurrencyConfig#UNLIMITED} limit, tasks are passed to delegate executor right away.
+ */
+public class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxConcurrent;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int active;
+
+    public BoundedExecutor(Executor delegate, int maxConcurrent) {
+        if (maxConcurrent < 0) {
+            throw new IllegalArgumentException("Max concurrent tasks must not be negative.");
+        }
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (maxConcurrent == ConcurrencyConfig.UNLIMITED) {
+            delegate.execute(task);
+            return;
+        }
+
+        enqueue(task);
+    }
+
+    private synchronized void enqueue(Runnable task) {
+        queue.add(task);
+        if (active < maxConcurrent) {
+            startNext();
+        }
+    }
+
+    private synchronized void startNext() {
+        final Runnable task = queue.poll();
+        if (task == null) {
+            return;
+        }
+
+        active++;
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    onCompleted();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            active--;
+            throw e;
+        }
+    }
+
+    private synchronized void onCompleted() {
+        active--;
+        startNext();
+    }
+}
@@ -37,6 +37,8 @@ import com.intel.bkp.ext.core.security.SecurityProviderParams;
 import com.intel.bkp.ext.core.security.SecurityProviderParamsSetter;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.model.AttestationCertificateFlow;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
+import com.intel.bkp.verifier.model.CrlCacheConfig;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import com.intel.bkp.verifier.model.DistributionPoint;
 import com.intel.bkp.verifier.model.LibConfig;
@@ -61,13 +63,27 @@ import java.util.Properties;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static com.intel.bkp.verifier.config.Properties.CACHE_BACKGROUND_REFRESH;
+import static com.intel.bkp.verifier.config.Properties.CACHE_DIRECTORY;
+import static com.intel.bkp.verifier.config.Properties.CACHE_GRACE_PERIOD_SECONDS;
+import static com.intel.bkp.verifier.config.Properties.CACHE_MEMORY_SIZE;
+import static com.intel.bkp.verifier.config.Properties.CACHE_NEGATIVE_TTL_SECONDS;
+import static com.intel.bkp.verifier.config.Properties.CACHE_PARSE_CACHE_SIZE;
+import static com.intel.bkp.verifier.config.Properties.CACHE_REVALIDATION_TTL_SECONDS;
+import static com.intel.bkp.verifier.config.Properties.CACHE_TTL_SECONDS;
+import static com.intel.bkp.verifier.config.Properties.CERTIFICATE_CACHE_GROUP;
+import static com.intel.bkp.verifier.config.Properties.CRL_CACHE_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_BUSY_TIMEOUT_MILLIS;
 import static com.intel.bkp.verifier.config.Properties.DATABASE_CONFIGURATION_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_READ_CONNECTIONS;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_DICE_TRUSTED_ROOT;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_MIRROR_PATH;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PATH_CER;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_HOST;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_PORT;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_S10_TRUSTED_ROOT;
+import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_TRUST_STORE_PATH;
 import static com.intel.bkp.verifier.config.Properties.EC_GROUP;
 import static com.intel.bkp.verifier.config.Properties.KEY_TYPES_GROUP;
 import static com.intel.bkp.verifier.config.Properties.ONLY_EFUSE_UDS;
@@ -173,10 +189,52 @@ public class LibConfigParser {
         return new DistributionPoint(
             prop.getPropertyGroup(DISTRIBUTION_POINT_PATH_CER, DISTRIBUTION_POINT_GROUP),
             trustedRootHash,
-            proxy
+            proxy,
+            getCertificateCacheConfig(prop),
+            getCrlCacheConfig(prop),
+            getOptionalProperty(prop, DISTRIBUTION_POINT_MIRROR_PATH, DISTRIBUTION_POINT_GROUP).orElse(""),
+            getOptionalProperty(prop, DISTRIBUTION_POINT_TRUST_STORE_PATH, DISTRIBUTION_POINT_GROUP).orElse("")
         );
     }
 
+    private CertificateCacheConfig getCertificateCacheConfig(SchemaParams prop) {
+        final CertificateCacheConfig config = new CertificateCacheConfig();
+        getOptionalProperty(prop, CACHE_MEMORY_SIZE, DISTRIBUTION_POINT_GROUP, CERTIFICATE_CACHE_GROUP)
+            .map(Integer::valueOf)
+            .ifPresent(config::setMemorySize);
+        getOptionalProperty(prop, CACHE_TTL_SECONDS, DISTRIBUTION_POINT_GROUP, CERTIFICATE_CACHE_GROUP)
+            .map(Long::valueOf)
+            .ifPresent(config::setTtlSeconds);
+        getOptionalProperty(prop, CACHE_NEGATIVE_TTL_SECONDS, DISTRIBUTION_POINT_GROUP, CERTIFICATE_CACHE_GROUP)
+            .map(Long::valueOf)
+            .ifPresent(config::setNegativeTtlSeconds);
+        getOptionalProperty(prop, CACHE_PARSE_CACHE_SIZE, DISTRIBUTION_POINT_GROUP, CERTIFICATE_CACHE_GROUP)
+            .map(Integer::valueOf)
+            .ifPresent(config::setParseCacheSize);
+        getOptionalProperty(prop, CACHE_DIRECTORY, DISTRIBUTION_POINT_GROUP, CERTIFICATE_CACHE_GROUP)
+            .ifPresent(config::setDirectory);
+        return config;
+    }
+
+    private CrlCacheConfig getCrlCacheConfig(SchemaParams prop) {
+        final CrlCacheConfig config = new CrlCacheConfig();
+        getOptionalProperty(prop, CACHE_GRACE_PERIOD_SECONDS, DISTRIBUTION_POINT_GROUP, CRL_CACHE_GROUP)
+            .map(Long::valueOf)
+            .ifPresent(config::setGracePeriodSeconds);
+        getOptionalProperty(prop, CACHE_BACKGROUND_REFRESH, DISTRIBUTION_POINT_GROUP, CRL_CACHE_GROUP)
+            .map(Boolean::valueOf)
+            .ifPresent(config::setBackgroundRefresh);
+        getOptionalProperty(prop, CACHE_REVALIDATION_TTL_SECONDS, DISTRIBUTION_POINT_GROUP, CRL_CACHE_GROUP)
+            .map(Long::valueOf)
+            .ifPresent(config::setRevalidationTtlSeconds);
+        return config;
+    }
+
+    private Optional<String> getOptionalProperty(SchemaParams prop, String key, String... groups) {
+        return Optional.ofNullable(prop.getPropertyGroup(key, groups))
+            .filter(Predicate.not(StringUtils::isBlank));
+    }
+
     private VerifierKeyParams getVerifierKeyParams(SchemaParams prop) {
         return new VerifierKeyParams(
             new VerifierRootQkyChain(Optional.ofNullable(
@@ -195,11 +253,18 @@ public class LibConfigParser {
     }
 
     private DatabaseConfiguration getDatabaseConfiguration(SchemaParams prop) {
-        return new DatabaseConfiguration(
+        final DatabaseConfiguration config = new DatabaseConfiguration();
+        config.setInternalDatabase(
             Optional.ofNullable(prop.getPropertyGroup("internal-database", DATABASE_CONFIGURATION_GROUP))
                 .map(Boolean::valueOf)
-                .orElse(true)
-        );
+                .orElse(true));
+        getOptionalProperty(prop, DATABASE_READ_CONNECTIONS, DATABASE_CONFIGURATION_GROUP)
+            .map(Integer::valueOf)
+            .ifPresent(config::setReadConnections);
+        getOptionalProperty(prop, DATABASE_BUSY_TIMEOUT_MILLIS, DATABASE_CONFIGURATION_GROUP)
+            .map(Integer::valueOf)
+            .ifPresent(config::setBusyTimeoutMillis);
+        return config;
     }
 
     private SecurityProviderParams getProviderParams(SchemaParams prop) {
@@ -0,0 +1,112 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.x509;
+
+import com.intel.bkp.ext.crypto.CryptoUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.PublicKey;
+import java.security.cert.CRLException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded cache of signature verification results, keyed by hash of signed object and hash of public key.
+ * Signature verification is deterministic, so both valid and invalid results are kept.
+ */
+@Slf4j
+public class SignatureVerificationCache {
+
+    static final int MAX_ENTRIES = 4096;
+
+    private static final SignatureVerificationCache INSTANCE = new SignatureVerificationCache();
+
+    private final Map<String, Boolean> results = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public static SignatureVerificationCache instance() {
+        return INSTANCE;
+    }
+
+    public Optional<String> key(X509Certificate certificate, PublicKey publicKey) {
+        try {
+            return key(certificate.getEncoded(), publicKey);
+        } catch (CertificateEncodingException e) {
+            log.debug("Failed to encode certificate: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<String> key(X509CRL crl, PublicKey publicKey) {
+        try {
+            return key(crl.getEncoded(), publicKey);
+        } catch (CRLException e) {
+            log.debug("Failed to encode CRL: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public synchronized Optional<Boolean> get(String key) {
+        return Optional.ofNullable(results.get(key));
+    }
+
+    public synchronized void put(String key, boolean valid) {
+        results.put(key, valid);
+    }
+
+    public synchronized void clear() {
+        results.clear();
+    }
+
+    synchronized int size() {
+        return results.size();
+    }
+
+    private static Optional<String> key(byte[] signedObject, PublicKey publicKey) {
+        if (signedObject == null || publicKey == null || publicKey.getEncoded() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(CryptoUtils.generateSha256Fingerprint(signedObject) + ":"
+            + CryptoUtils.generateSha256Fingerprint(publicKey.getEncoded()));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.x509;
+
+import com.intel.bkp.ext.crypto.CryptoUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of certificate chain links that were already verified, keyed by certificate fingerprints. Certificates above
+ * device-specific ones are the same for all devices, so they are verified once and not again for each device. Entry
+ * is valid until the earlier notAfter of both certificates, or until cache is cleared when library context is closed.
+ * CRL signatures are not cached here - {@link SignatureVerificationCache} already covers them.
+ */
+@Slf4j
+public class VerifiedLinkCache {
+
+    static final int MAX_ENTRIES = 1024;
+
+    private static final VerifiedLinkCache INSTANCE = new VerifiedLinkCache();
+
+    private final Map<String, Long> verified = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public static VerifiedLinkCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns key of link between certificates, or empty if certificates cannot be encoded.
+     *
+     * @param context verification parameters that must be the same for cached result to apply
+     */
+    public Optional<String> linkKey(X509Certificate child, X509Certificate parent, String context) {
+        return fingerprint(child)
+            .flatMap(childFingerprint -> fingerprint(parent)
+                .map(parentFingerprint -> childFingerprint + ":" + parentFingerprint + ":" + context));
+    }
+
+    public synchronized boolean isVerified(String key) {
+        final Long expiry = verified.get(key);
+        if (expiry == null) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() >= expiry) {
+            verified.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    public void putLink(String key, X509Certificate child, X509Certificate parent) {
+        put(key, Math.min(child.getNotAfter().getTime(), parent.getNotAfter().getTime()));
+    }
+
+    public synchronized void clear() {
+        verified.clear();
+    }
+
+    private synchronized void put(String key, long expiry) {
+        if (System.currentTimeMillis() < expiry) {
+            verified.put(key, expiry);
+        }
+    }
+
+    private static Optional<String> fingerprint(X509Certificate certificate) {
+        try {
+            return Optional.ofNullable(certificate.getEncoded()).map(CryptoUtils::generateSha256Fingerprint);
+        } catch (CertificateEncodingException e) {
+            log.debug("Failed to encode certificate: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -34,27 +34,26 @@
 package com.intel.bkp.verifier.x509;
 
 import com.intel.bkp.verifier.exceptions.CertificateChainValidationException;
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
 
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Optional;
 
-import static com.intel.bkp.ext.core.certificate.X509CertificateUtils.getAuthorityKeyIdentifier;
-import static com.intel.bkp.ext.core.certificate.X509CertificateUtils.getSubjectKeyIdentifier;
-
 public class X509CertificateAuthorityKeyIdentifierVerifier {
 
     public void verify(final X509Certificate child, final X509Certificate parent)
         throws CertificateChainValidationException {
 
-        final Optional<byte[]> childAKI = Optional.ofNullable(getAuthorityKeyIdentifier(child));
+        final Optional<byte[]> childAKI =
+            Optional.ofNullable(DiceCertificateView.of(child).getAuthorityKeyIdentifier());
         if (childAKI.isPresent() && !childAKIMatchesParentSKI(childAKI.get(), parent)) {
             handleMismatchedAKI(child);
         }
     }
 
     private boolean childAKIMatchesParentSKI(byte[] childAKI, X509Certificate parent) {
-        final byte[] parentSKI = getSubjectKeyIdentifier(parent);
+        final byte[] parentSKI = DiceCertificateView.of(parent).getSubjectKeyIdentifier();
         return Arrays.equals(childAKI, parentSKI);
     }
 
@@ -34,6 +34,8 @@
 package com.intel.bkp.verifier.x509;
 
 import com.intel.bkp.verifier.exceptions.CertificateChainValidationException;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -45,6 +47,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.bouncycastle.asn1.x509.Extension.authorityInfoAccess;
@@ -75,6 +78,8 @@ public class X509CertificateChainVerifier {
     private X509CertificateKeyUsageVerifier certificateKeyUsageVerifier = new X509CertificateKeyUsageVerifier();
     private X509CertificateCriticalExtensionsVerifier criticalExtensionsVerifier =
         new X509CertificateCriticalExtensionsVerifier();
+    @Getter(AccessLevel.PACKAGE)
+    private VerifiedLinkCache verifiedLinkCache = VerifiedLinkCache.instance();
 
     private List<X509Certificate> certificates = new ArrayList<>();
     private Optional<Integer> rootBasicConstraints = Optional.empty();
@@ -87,7 +92,8 @@ public class X509CertificateChainVerifier {
         X509CertificateAuthorityKeyIdentifierVerifier certificateAKIVerifier,
         X509CertificateBasicConstraintsVerifier certificateBasicConstraintsVerifier,
         X509CertificateKeyUsageVerifier certificateKeyUsageVerifier,
-        X509CertificateCriticalExtensionsVerifier criticalExtensionsVerifier) {
+        X509CertificateCriticalExtensionsVerifier criticalExtensionsVerifier,
+        VerifiedLinkCache verifiedLinkCache) {
         this.certificateParentVerifier = certificateParentVerifier;
         this.certificateValidityVerifier = certificateValidityVerifier;
         this.certificateIssuerVerifier = certificateIssuerVerifier;
@@ -95,6 +101,7 @@ public class X509CertificateChainVerifier {
         this.certificateBasicConstraintsVerifier = certificateBasicConstraintsVerifier;
         this.certificateKeyUsageVerifier = certificateKeyUsageVerifier;
         this.criticalExtensionsVerifier = criticalExtensionsVerifier;
+        this.verifiedLinkCache = verifiedLinkCache;
     }
 
     public X509CertificateChainVerifier certificates(List<X509Certificate> certificates) {
@@ -148,6 +155,13 @@ public class X509CertificateChainVerifier {
     private void verifyCertificate(X509Certificate child, X509Certificate parent,
                                    Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage)
         throws CertificateChainValidationException {
+        final Optional<String> linkKey = verifiedLinkCache.linkKey(child, parent,
+            getLinkContext(childExpectedBasicConstraints, childExpectedKeyUsage));
+        if (linkKey.map(verifiedLinkCache::isVerified).orElse(false)) {
+            log.trace("Link to certificate {} already verified.", parent.getSubjectX500Principal());
+            return;
+        }
+
         certificateValidityVerifier.verify(child);
         certificateParentVerifier.verify(child, parent);
         certificateIssuerVerifier.verify(child, parent);
@@ -157,5 +171,11 @@ public class X509CertificateChainVerifier {
             certificateBasicConstraintsVerifier.verify(child, childExpectedBasicConstraints.get());
         }
         criticalExtensionsVerifier.verify(child, knownExtensionOids);
+        linkKey.ifPresent(key -> verifiedLinkCache.putLink(key, child, parent));
+    }
+
+    private String getLinkContext(Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage) {
+        return childExpectedBasicConstraints.map(String::valueOf).orElse("-") + ":" + childExpectedKeyUsage + ":"
+            + new TreeSet<>(knownExtensionOids);
     }
 }
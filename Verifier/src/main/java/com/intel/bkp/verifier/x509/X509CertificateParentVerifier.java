@@ -39,18 +39,37 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.security.PublicKey;
 import java.security.SignatureException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Optional;
 
 @Slf4j
 public class X509CertificateParentVerifier {
 
+    private final SignatureVerificationCache signatureVerificationCache = SignatureVerificationCache.instance();
+
     public void verify(X509Certificate child, X509Certificate parent) throws CertificateChainValidationException {
+        final PublicKey parentPublicKey = parent.getPublicKey();
+        final Optional<String> cacheKey = signatureVerificationCache.key(child, parentPublicKey);
+        final Optional<Boolean> cachedResult = cacheKey.flatMap(signatureVerificationCache::get);
+        if (cachedResult.isPresent()) {
+            if (cachedResult.get()) {
+                return;
+            }
+            log.error("Invalid X509 signature in certificate.\nParent: {} \nChild: {}", parent, child);
+            throw new CertificateChainValidationException("Invalid X509 signature in certificate.");
+        }
+
         try {
-            child.verify(parent.getPublicKey());
-        } catch (CertificateException | NoSuchAlgorithmException
-            | InvalidKeyException | NoSuchProviderException | SignatureException e) {
+            child.verify(parentPublicKey);
+            cacheKey.ifPresent(key -> signatureVerificationCache.put(key, true));
+        } catch (SignatureException e) {
+            cacheKey.ifPresent(key -> signatureVerificationCache.put(key, false));
+            log.error("Invalid X509 signature in certificate.\nParent: {} \nChild: {}", parent, child, e);
+            throw new CertificateChainValidationException(e);
+        } catch (CertificateException | NoSuchAlgorithmException | InvalidKeyException | NoSuchProviderException e) {
             log.error("Invalid X509 signature in certificate.\nParent: {} \nChild: {}", parent, child, e);
             throw new CertificateChainValidationException(e);
         }
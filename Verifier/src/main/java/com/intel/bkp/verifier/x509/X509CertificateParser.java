@@ -34,8 +34,10 @@
 package com.intel.bkp.verifier.x509;
 
 import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.ext.crypto.CryptoUtils;
 import com.intel.bkp.ext.crypto.exceptions.X509CertificateParsingException;
 import com.intel.bkp.verifier.exceptions.X509ParsingException;
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bouncycastle.asn1.ASN1InputStream;
@@ -56,7 +58,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -70,7 +74,32 @@ public class X509CertificateParser {
     private static final String FAIL_TO_PARSE_MESSAGE = "Failed to parse CRL Distribution Points "
         + "from attestation certificate.";
 
+    private static final Object PARSE_CACHE_LOCK = new Object();
+    private static int parseCacheSize = 0;
+    private static Map<String, X509Certificate> parseCache = Map.of();
+
+    /**
+     * Enables cache of parsed certificates, keyed by SHA-256 of certificate bytes, so that the same certificate
+     * is parsed once and shared instead of being parsed again for each device.
+     *
+     * @param size max number of cached certificates, 0 disables the cache
+     */
+    public static void setParseCacheSize(int size) {
+        synchronized (PARSE_CACHE_LOCK) {
+            parseCacheSize = Math.max(0, size);
+            parseCache = parseCacheSize > 0 ? createParseCache(parseCacheSize) : Map.of();
+        }
+    }
+
     public Optional<String> getPathToCrlDistributionPoint(X509Certificate certificate) {
+        return DiceCertificateView.of(certificate).getPathToCrlDistributionPoint();
+    }
+
+    /**
+     * Decodes CRL distribution point from certificate on each call. Use {@link #getPathToCrlDistributionPoint}
+     * to reuse result decoded earlier for the same certificate.
+     */
+    public static Optional<String> decodePathToCrlDistributionPoint(X509Certificate certificate) {
         final List<String> crlUrls;
         try {
             if (!X509CertificateUtils.containsExtension(certificate, Extension.cRLDistributionPoints)) {
@@ -103,6 +132,14 @@ public class X509CertificateParser {
     }
 
     public Optional<String> findPathToIssuerCertificate(X509Certificate certificate) {
+        return DiceCertificateView.of(certificate).getPathToIssuerCertificate();
+    }
+
+    /**
+     * Decodes issuer certificate location from certificate on each call. Use {@link #findPathToIssuerCertificate}
+     * to reuse result decoded earlier for the same certificate.
+     */
+    public static Optional<String> decodePathToIssuerCertificate(X509Certificate certificate) {
         final byte[] authorityInfoAccess = certificate.getExtensionValue(Extension.authorityInfoAccess.getId());
         return tryGetAccessDescriptions(authorityInfoAccess)
             .filter(descriptions -> descriptions.length > 0)
@@ -120,6 +157,17 @@ public class X509CertificateParser {
     }
 
     public X509Certificate toX509(byte[] certificate) {
+        final Optional<String> key = getParseCacheKey(certificate);
+        final Optional<X509Certificate> cached = key.flatMap(X509CertificateParser::getFromParseCache);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final X509Certificate parsed = parse(certificate);
+        return key.map(k -> putToParseCache(k, parsed)).orElse(parsed);
+    }
+
+    private static X509Certificate parse(byte[] certificate) {
         try {
             return toX509Certificate(certificate);
         } catch (X509CertificateParsingException e) {
@@ -127,7 +175,42 @@ public class X509CertificateParser {
         }
     }
 
-    private Optional<AccessDescription[]> tryGetAccessDescriptions(byte[] authorityInfoAccess) {
+    private static Optional<String> getParseCacheKey(byte[] certificate) {
+        synchronized (PARSE_CACHE_LOCK) {
+            if (parseCacheSize == 0 || certificate == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(CryptoUtils.generateSha256Fingerprint(certificate));
+    }
+
+    private static Optional<X509Certificate> getFromParseCache(String key) {
+        synchronized (PARSE_CACHE_LOCK) {
+            return Optional.ofNullable(parseCache.get(key));
+        }
+    }
+
+    private static X509Certificate putToParseCache(String key, X509Certificate certificate) {
+        synchronized (PARSE_CACHE_LOCK) {
+            if (parseCacheSize == 0) {
+                return certificate;
+            }
+            // keep instance parsed by concurrent caller, so that duplicates are not held in memory
+            final X509Certificate existing = parseCache.putIfAbsent(key, certificate);
+            return existing != null ? existing : certificate;
+        }
+    }
+
+    private static Map<String, X509Certificate> createParseCache(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, X509Certificate> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static Optional<AccessDescription[]> tryGetAccessDescriptions(byte[] authorityInfoAccess) {
         if (authorityInfoAccess == null) {
             return Optional.empty();
         }
@@ -142,17 +225,17 @@ public class X509CertificateParser {
         return Optional.empty();
     }
 
-    private ASN1Primitive getOctetString(byte[] octetString) throws Exception {
+    private static ASN1Primitive getOctetString(byte[] octetString) throws Exception {
         try (ASN1InputStream oAsnInStream = new ASN1InputStream(new ByteArrayInputStream(octetString))) {
             return oAsnInStream.readObject();
         }
     }
 
-    private String getLocationName(AccessDescription accessDescription) {
+    private static String getLocationName(AccessDescription accessDescription) {
         return accessDescription.getAccessLocation().getName().toString();
     }
 
-    private List<GeneralNames> extractCrlUrls(Optional<DistributionPoint[]> dpArray) {
+    private static List<GeneralNames> extractCrlUrls(Optional<DistributionPoint[]> dpArray) {
         return Arrays.stream(dpArray.orElse(new DistributionPoint[] {}))
             .map(DistributionPoint::getDistributionPoint)
             .filter(Objects::nonNull)
@@ -161,7 +244,8 @@ public class X509CertificateParser {
             .collect(Collectors.toList());
     }
 
-    private Optional<DistributionPoint[]> extractDistributionPoints(X509Certificate certificate) throws Exception {
+    private static Optional<DistributionPoint[]> extractDistributionPoints(X509Certificate certificate)
+        throws Exception {
         final byte[] crlDistributionPoints = certificate.getExtensionValue(Extension.cRLDistributionPoints.getId());
 
         final DEROctetString derCrl = (DEROctetString)getOctetString(crlDistributionPoints);
@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.x509;
 
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
@@ -42,7 +43,6 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.intel.bkp.ext.core.certificate.X509CertificateUtils.calculateSubjectKeyIdentifierUsingMethod2FromRfc7093;
-import static com.intel.bkp.ext.core.certificate.X509CertificateUtils.getSubjectKeyIdentifier;
 import static com.intel.bkp.ext.utils.HexConverter.toHex;
 
 @Slf4j
@@ -60,7 +60,8 @@ public class X509CertificateSubjectKeyIdentifierVerifier {
     }
 
     private boolean verifyCertificate(final X509Certificate certificate) {
-        final Optional<byte[]> skiFromCert = Optional.ofNullable(getSubjectKeyIdentifier(certificate));
+        final Optional<byte[]> skiFromCert =
+            Optional.ofNullable(DiceCertificateView.of(certificate).getSubjectKeyIdentifier());
         if (skiFromCert.isEmpty()) {
             log.debug("Certificate does not contain SKI extension: {}", certificate.getSubjectDN());
             return true;
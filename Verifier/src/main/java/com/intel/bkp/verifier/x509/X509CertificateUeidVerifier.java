@@ -33,7 +33,7 @@
 
 package com.intel.bkp.verifier.x509;
 
-import com.intel.bkp.verifier.model.dice.UeidExtensionParser;
+import com.intel.bkp.verifier.model.dice.DiceCertificateView;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 
@@ -88,9 +88,7 @@ public class X509CertificateUeidVerifier {
 
     private Optional<byte[]> getUidFromUeidExtension(final X509Certificate certificate) {
         try {
-            final var ueidParser = new UeidExtensionParser();
-            ueidParser.parse(certificate);
-            return Optional.of(ueidParser.getUeidExtension().getUid());
+            return Optional.of(DiceCertificateView.of(certificate).getUeidExtension().getUid());
         } catch (Exception ex) {
             log.error("Failed to parse UEID extension of certificate: {}", certificate.getSubjectDN());
             return Optional.empty();
@@ -42,15 +42,31 @@ import java.security.PublicKey;
 import java.security.SignatureException;
 import java.security.cert.CRLException;
 import java.security.cert.X509CRL;
+import java.util.Optional;
 
 public class X509CrlParentVerifier {
 
+    private final SignatureVerificationCache signatureVerificationCache = SignatureVerificationCache.instance();
+
     public void verify(X509CRL crl, PublicKey signingPubKey) {
+        final Optional<String> cacheKey = signatureVerificationCache.key(crl, signingPubKey);
+        final Optional<Boolean> cachedResult = cacheKey.flatMap(signatureVerificationCache::get);
+        if (cachedResult.isPresent()) {
+            if (cachedResult.get()) {
+                return;
+            }
+            throw new X509ParsingException("Failed to verify signature over CRL.");
+        }
+
         try {
             crl.verify(signingPubKey);
+            cacheKey.ifPresent(key -> signatureVerificationCache.put(key, true));
         } catch (CRLException e) {
             throw new X509ParsingException("Failed to parse CRL.", e);
-        } catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException | NoSuchProviderException e) {
+        } catch (SignatureException e) {
+            cacheKey.ifPresent(key -> signatureVerificationCache.put(key, false));
+            throw new X509ParsingException("Failed to verify signature over CRL.", e);
+        } catch (NoSuchAlgorithmException | InvalidKeyException | NoSuchProviderException e) {
             throw new X509ParsingException("Failed to verify signature over CRL.", e);
         }
     }
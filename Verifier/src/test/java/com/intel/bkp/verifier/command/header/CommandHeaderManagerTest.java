@@ -214,4 +214,26 @@ public class CommandHeaderManagerTest {
             CommandHeaderManager.validateCommandHeaderCode(command, "TestResponse");
         });
     }
+
+    @Test
+    public void getResponseLength_ReturnsHeaderWithArgumentsLength() {
+        // given
+        final byte[] response = CommandHeaderManager.buildForFw(new CommandHeader(ERROR_CODE_SUCCESS, 3, 2, 1));
+
+        // when
+        final int result = CommandHeaderManager.getResponseLength(response);
+
+        // then
+        Assertions.assertEquals(16, result);
+    }
+
+    @Test
+    public void getResponseLength_TooSmallData_Throws() {
+        // given
+        byte[] response = new byte[1];
+
+        // when-then
+        Assertions.assertThrows(JtagResponseException.class,
+            () -> CommandHeaderManager.getResponseLength(response));
+    }
 }
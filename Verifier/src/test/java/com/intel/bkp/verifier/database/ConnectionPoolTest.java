@@ -0,0 +1,165 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolTest {
+
+    @Mock
+    private ConnectionPool.ConnectionFactory connectionFactory;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Connection otherConnection;
+
+    @Test
+    void withConnection_SequentialCalls_ReusesConnection() throws Exception {
+        // given
+        when(connectionFactory.open()).thenReturn(connection);
+        final ConnectionPool sut = new ConnectionPool(connectionFactory, 2);
+
+        // when
+        final Connection first = sut.withConnection(c -> c);
+        final Connection second = sut.withConnection(c -> c);
+
+        // then
+        Assertions.assertSame(connection, first);
+        Assertions.assertSame(connection, second);
+        Assertions.assertEquals(1, sut.getOpenedCount());
+        verify(connectionFactory, times(1)).open();
+    }
+
+    @Test
+    void withConnection_ConcurrentCalls_UsesSeparateConnections() throws Exception {
+        // given
+        when(connectionFactory.open()).thenReturn(connection, otherConnection);
+        final ConnectionPool sut = new ConnectionPool(connectionFactory, 2);
+        final CountDownLatch borrowed = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+
+        final CompletableFuture<Connection> pending = CompletableFuture.supplyAsync(() -> {
+            try {
+                return sut.withConnection(c -> {
+                    borrowed.countDown();
+                    await(finish);
+                    return c;
+                });
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        await(borrowed);
+
+        // when
+        final Connection result = sut.withConnection(c -> c);
+        finish.countDown();
+
+        // then
+        Assertions.assertSame(connection, pending.get(5, TimeUnit.SECONDS));
+        Assertions.assertSame(otherConnection, result);
+        Assertions.assertEquals(2, sut.getOpenedCount());
+    }
+
+    @Test
+    void withConnection_ConnectionClosed_OpensNewOne() throws Exception {
+        // given
+        when(connectionFactory.open()).thenReturn(connection, otherConnection);
+        when(connection.isClosed()).thenReturn(true);
+        final ConnectionPool sut = new ConnectionPool(connectionFactory, 1);
+        sut.withConnection(c -> c);
+
+        // when
+        final Connection result = sut.withConnection(c -> c);
+
+        // then
+        Assertions.assertSame(otherConnection, result);
+        Assertions.assertEquals(1, sut.getOpenedCount());
+    }
+
+    @Test
+    void withConnection_OpenFails_ReleasesPermit() throws Exception {
+        // given
+        when(connectionFactory.open()).thenThrow(new SQLException("test")).thenReturn(connection);
+        final ConnectionPool sut = new ConnectionPool(connectionFactory, 1);
+
+        // when
+        Assertions.assertThrows(SQLException.class, () -> sut.withConnection(c -> c));
+        final Connection result = sut.withConnection(c -> c);
+
+        // then
+        Assertions.assertSame(connection, result);
+    }
+
+    @Test
+    void close_ClosesOpenedConnections() throws Exception {
+        // given
+        when(connectionFactory.open()).thenReturn(connection);
+        final ConnectionPool sut = new ConnectionPool(connectionFactory, 1);
+        sut.withConnection(c -> c);
+
+        // when
+        sut.close();
+
+        // then
+        verify(connection).close();
+        Assertions.assertEquals(0, sut.getOpenedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.database;
 
 import com.intel.bkp.verifier.exceptions.DatabaseException;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,8 +42,10 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.sqlite.SQLiteConfig;
 
 import java.sql.Connection;
+import java.util.Properties;
 
 import static org.mockito.Mockito.doReturn;
 
@@ -65,6 +68,60 @@ class DatabaseManagerTest {
         Assertions.assertNotNull(connection);
     }
 
+    @Test
+    void getConnection_CalledTwice_ReturnsSameConnection() throws DatabaseException {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+
+        // when
+        final Connection first = sut.getConnection();
+        final Connection second = sut.getConnection();
+
+        // then
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void getReadConnectionPool_ReturnsPoolSeparateFromWriteConnection() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final Connection writeConnection = sut.getConnection();
+
+        // when
+        final Connection readConnection = sut.getReadConnectionPool().withConnection(c -> c);
+
+        // then
+        Assertions.assertNotNull(readConnection);
+        Assertions.assertNotSame(writeConnection, readConnection);
+    }
+
+    @Test
+    void getSqliteConfig_UsesWriteAheadLogging() {
+        // when
+        final Properties properties = sut.getSqliteConfig().toProperties();
+
+        // then
+        Assertions.assertEquals("WAL", properties.getProperty(SQLiteConfig.Pragma.JOURNAL_MODE.pragmaName));
+        Assertions.assertEquals("NORMAL", properties.getProperty(SQLiteConfig.Pragma.SYNCHRONOUS.pragmaName));
+        Assertions.assertEquals(String.valueOf(DatabaseConfiguration.DEFAULT_BUSY_TIMEOUT_MILLIS),
+            properties.getProperty(SQLiteConfig.Pragma.BUSY_TIMEOUT.pragmaName));
+    }
+
+    @Test
+    void closeDatabase_ClosesWriteAndReadConnections() throws Exception {
+        // given
+        doReturn("jdbc:sqlite::memory:").when(sut).getJdbcUrl();
+        final Connection writeConnection = sut.getConnection();
+        final Connection readConnection = sut.getReadConnectionPool().withConnection(c -> c);
+
+        // when
+        sut.closeDatabase();
+
+        // then
+        Assertions.assertTrue(writeConnection.isClosed());
+        Assertions.assertTrue(readConnection.isClosed());
+    }
+
     @Test
     void closeBD() {
         // when-then
@@ -0,0 +1,245 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import com.intel.bkp.verifier.database.ConnectionPool;
+import com.intel.bkp.verifier.database.model.S10CacheEntity;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import org.apache.commons.dbutils.QueryRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Optional;
+
+import static com.intel.bkp.ext.utils.HexConverter.toHex;
+
+class S10CacheEntityServiceTest {
+
+    private static final byte[] DEVICE_ID = new byte[] { 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08 };
+    private static final String DELETE_ALL = "DELETE FROM s10_cache";
+
+    private Connection connection;
+    private S10CacheEntityService sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // in-memory database is visible only to connection that created it, so it is shared by reads and writes
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        sut = new S10CacheEntityService(connection, new ConnectionPool(() -> connection, 1));
+        sut.migrate(0, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sut.close();
+        connection.close();
+    }
+
+    @Test
+    void read_AfterStore_ReturnsEntityWithoutQueryingDatabase() throws Exception {
+        // given
+        final S10CacheEntity entity = prepareEntity("context");
+        sut.store(entity);
+        new QueryRunner().update(connection, DELETE_ALL);
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(DEVICE_ID);
+
+        // then
+        Assertions.assertEquals(Optional.of(entity), result);
+    }
+
+    @Test
+    void read_StoredEntityModifiedByCaller_ReturnsEntityAsStored() {
+        // given
+        final S10CacheEntity entity = prepareEntity("context");
+        sut.store(entity);
+        entity.setContext("modified-context");
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(DEVICE_ID);
+
+        // then
+        Assertions.assertEquals(Optional.of(prepareEntity("context")), result);
+    }
+
+    @Test
+    void read_ReadEntityModifiedByCaller_ReturnsEntityAsStored() {
+        // given
+        sut.store(prepareEntity("context"));
+        sut.read(DEVICE_ID).ifPresent(entity -> entity.setContext("modified-context"));
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(DEVICE_ID);
+
+        // then
+        Assertions.assertEquals(Optional.of(prepareEntity("context")), result);
+    }
+
+    @Test
+    void read_NotCached_ReadsFromDatabaseOnce() throws Exception {
+        // given
+        final S10CacheEntity entity = prepareEntity("context");
+        new S10CacheEntityService(connection, new ConnectionPool(() -> connection, 1)).store(entity);
+
+        // when
+        final Optional<S10CacheEntity> first = sut.read(DEVICE_ID);
+        new QueryRunner().update(connection, DELETE_ALL);
+        final Optional<S10CacheEntity> second = sut.read(DEVICE_ID);
+
+        // then
+        Assertions.assertEquals(Optional.of(entity), first);
+        Assertions.assertEquals(first, second);
+    }
+
+    @Test
+    void read_MissingEntityStoredByOtherServiceInstance_ReturnsStoredEntity() {
+        // given
+        Assertions.assertTrue(sut.read(DEVICE_ID).isEmpty());
+        final S10CacheEntity entity = prepareEntity("context");
+        new S10CacheEntityService(connection, new ConnectionPool(() -> connection, 1)).store(entity);
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(DEVICE_ID);
+
+        // then
+        Assertions.assertEquals(Optional.of(entity), result);
+    }
+
+    @Test
+    void store_AfterMissingEntityWasRead_ReplacesCachedResult() {
+        // given
+        Assertions.assertTrue(sut.read(DEVICE_ID).isEmpty());
+        final S10CacheEntity entity = prepareEntity("context");
+
+        // when
+        sut.store(entity);
+
+        // then
+        Assertions.assertEquals(Optional.of(entity), sut.read(DEVICE_ID));
+    }
+
+    @Test
+    void store_ExistingEntity_ReplacesCachedEntity() {
+        // given
+        sut.store(prepareEntity("context"));
+        sut.read(DEVICE_ID);
+        final S10CacheEntity newEntity = prepareEntity("other-context");
+
+        // when
+        sut.store(newEntity);
+
+        // then
+        Assertions.assertEquals(Optional.of(newEntity), sut.read(DEVICE_ID));
+    }
+
+    @Test
+    void read_DeviceIdNotOfLongSize_ReadsFromDatabase() throws Exception {
+        // given
+        final byte[] shortDeviceId = new byte[] { 0x01, 0x02 };
+        final S10CacheEntity entity = new S10CacheEntity(toHex(shortDeviceId), "context", 1, "EFUSE", "alias");
+        sut.store(entity);
+        new QueryRunner().update(connection, DELETE_ALL);
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(shortDeviceId);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void storeAll_StoresAllEntitiesAndReplacesCachedResults() {
+        // given
+        final byte[] otherDeviceId = new byte[] { 0x11, 0x12, 0x13, 0x14, 0x15, 0x16, 0x17, 0x18 };
+        Assertions.assertTrue(sut.read(DEVICE_ID).isEmpty());
+        final S10CacheEntity entity = prepareEntity("context");
+        final S10CacheEntity otherEntity = new S10CacheEntity(toHex(otherDeviceId), "other", 2, "IID", "alias");
+
+        // when
+        final int result = sut.storeAll(List.of(entity, otherEntity));
+
+        // then
+        Assertions.assertEquals(2, result);
+        Assertions.assertEquals(Optional.of(entity), sut.read(DEVICE_ID));
+        Assertions.assertEquals(Optional.of(otherEntity), sut.read(otherDeviceId));
+    }
+
+    @Test
+    void importFrom_ExportedEntities_StoresSameEntities() throws Exception {
+        // given
+        final S10CacheEntity entity = prepareEntity("context");
+        sut.store(entity);
+        final ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        final int exportedCount = sut.exportTo(exported);
+        new QueryRunner().update(connection, DELETE_ALL);
+        sut.close();
+
+        // when
+        final int importedCount = sut.importFrom(new ByteArrayInputStream(exported.toByteArray()));
+
+        // then
+        Assertions.assertEquals(1, exportedCount);
+        Assertions.assertEquals(1, importedCount);
+        Assertions.assertEquals(Optional.of(entity), sut.read(DEVICE_ID));
+    }
+
+    @Test
+    void importFrom_InvalidLine_Throws() throws Exception {
+        // given
+        final ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        sut.store(prepareEntity("context"));
+        sut.exportTo(exported);
+        new QueryRunner().update(connection, DELETE_ALL);
+        sut.close();
+        final String input = exported.toString(StandardCharsets.UTF_8) + "not-a-json\n";
+
+        // when-then
+        Assertions.assertThrows(DatabaseException.class,
+            () -> sut.importFrom(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertTrue(sut.read(DEVICE_ID).isEmpty());
+    }
+
+    private static S10CacheEntity prepareEntity(String context) {
+        return new S10CacheEntity(toHex(DEVICE_ID), context, 1, "EFUSE", "alias");
+    }
+}
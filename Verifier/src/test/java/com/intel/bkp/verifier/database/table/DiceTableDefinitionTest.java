@@ -89,4 +89,13 @@ class DiceTableDefinitionTest {
         // then
         Assertions.assertEquals(2, result);
     }
+
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        Assertions.assertEquals("SELECT * FROM " + DiceTableDefinition.TABLE_NAME + " WHERE deviceid = ?", result);
+    }
 }
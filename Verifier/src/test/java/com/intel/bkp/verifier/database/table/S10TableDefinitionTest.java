@@ -88,4 +88,13 @@ class S10TableDefinitionTest {
         // then
         Assertions.assertEquals(5, result);
     }
+
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        Assertions.assertEquals("SELECT * FROM " + S10TableDefinition.TABLE_NAME + " WHERE deviceid = ?", result);
+    }
 }
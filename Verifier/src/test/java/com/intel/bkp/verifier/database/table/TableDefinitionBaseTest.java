@@ -59,6 +59,11 @@ class TableDefinitionBaseTest {
             return 1;
         }
 
+        @Override
+        protected String getKeyColumnName() {
+            return COLUMN;
+        }
+
         @Override
         public String getTableName() {
             return TABLE_NAME;
@@ -79,6 +84,15 @@ class TableDefinitionBaseTest {
         Assertions.assertEquals(String.format("SELECT * FROM %s", TABLE_NAME), result);
     }
 
+    @Test
+    void getSelectByKeySQL() {
+        // when
+        final String result = sut.getSelectByKeySQL();
+
+        // then
+        Assertions.assertEquals(String.format("SELECT * FROM %s WHERE %s = ?", TABLE_NAME, COLUMN), result);
+    }
+
     @Test
     void getTableDefinition() {
         // when
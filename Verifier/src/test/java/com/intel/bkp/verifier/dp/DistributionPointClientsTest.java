@@ -0,0 +1,122 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Mockito.mock;
+
+class DistributionPointClientsTest {
+
+    private static final String KEY = "host:123";
+
+    private final DistributionPointClients sut = new DistributionPointClients();
+
+    @AfterEach
+    void cleanUp() {
+        sut.close();
+    }
+
+    @Test
+    void getHttpClient_SameKey_ReturnsSameClient() {
+        // when
+        final HttpClient first = sut.getHttpClient(KEY, ProxySelector.getDefault());
+        final HttpClient second = sut.getHttpClient(KEY, ProxySelector.getDefault());
+
+        // then
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void getHttpClient_AfterClose_ReturnsNewClient() {
+        // given
+        final HttpClient beforeClose = sut.getHttpClient(KEY, ProxySelector.getDefault());
+
+        // when
+        sut.close();
+
+        // then
+        Assertions.assertNotSame(beforeClose, sut.getHttpClient(KEY, ProxySelector.getDefault()));
+    }
+
+    @Test
+    void close_StopsPrefetchExecutor() {
+        // given
+        sut.getPrefetchExecutor();
+
+        // when
+        sut.close();
+
+        // then
+        Assertions.assertFalse(sut.isPrefetchExecutorRunning());
+    }
+
+    @Test
+    void getPrefetchExecutor_AfterClose_ReturnsNewRunningExecutor() {
+        // given
+        final Executor beforeClose = sut.getPrefetchExecutor();
+        sut.close();
+
+        // when
+        final Executor result = sut.getPrefetchExecutor();
+
+        // then
+        Assertions.assertNotSame(beforeClose, result);
+        Assertions.assertTrue(sut.isPrefetchExecutorRunning());
+    }
+
+    @Test
+    void close_ForgetsMirror() {
+        // given
+        sut.setMirror(mock(DistributionPointMirror.class));
+
+        // when
+        sut.close();
+
+        // then
+        Assertions.assertNull(sut.getMirror());
+    }
+
+    @Test
+    void constructor_NegativeLimit_Throws() {
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DistributionPointClients(-1, null));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import com.intel.bkp.verifier.model.Proxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributionPointConnectorTest {
+
+    private static final String URL = "https://tsci.intel.com/content/IPCS/certs/cert.cer";
+    private static final String UNREACHABLE_URL = "http://localhost:1/cert.cer";
+    private static final byte[] CONTENT = new byte[]{1, 2, 3};
+
+    @Mock
+    private DistributionPointMirror mirror;
+
+    private final DistributionPointClients clients = new DistributionPointClients();
+
+    private DistributionPointConnector sut;
+
+    @BeforeEach
+    void setUp() {
+        clients.setMirror(mirror);
+        sut = new DistributionPointConnector(new Proxy(), clients);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        clients.close();
+    }
+
+    @Test
+    void getBytes_ClientsWithMirror_ReadsFromMirror() {
+        // given
+        when(mirror.get(URL)).thenReturn(Optional.of(CONTENT));
+
+        // when
+        final byte[] result = sut.getBytes(URL);
+
+        // then
+        Assertions.assertArrayEquals(CONTENT, result);
+    }
+
+    @Test
+    void tryGetBytes_MirrorWithoutContent_ReturnsNotFound() {
+        // given
+        when(mirror.get(URL)).thenReturn(Optional.empty());
+
+        // when
+        final Optional<DistributionPointResponse> result = sut.tryGetBytes(URL, HttpValidators.NONE);
+
+        // then
+        Assertions.assertTrue(result.map(DistributionPointResponse::isNotFound).orElse(false));
+    }
+
+    @Test
+    void tryGetBytes_ConnectorWithOtherClients_DoesNotReadFromMirror() {
+        // given
+        final DistributionPointConnector otherConnector = new DistributionPointConnector(new Proxy());
+
+        // when
+        final Optional<byte[]> result = otherConnector.tryGetBytes(UNREACHABLE_URL);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        verifyNoInteractions(mirror);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.net.ssl.SSLSession;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributionPointMetricsTest {
+
+    @Mock
+    private HttpResponse<byte[]> response;
+
+    @Mock
+    private SSLSession sslSession;
+
+    private final DistributionPointMetrics sut = new DistributionPointMetrics();
+
+    @Test
+    void record_SameTlsSession_CountsSingleNewSession() {
+        // given
+        when(response.sslSession()).thenReturn(Optional.of(sslSession));
+        when(sslSession.getId()).thenReturn(new byte[]{1, 2, 3});
+        when(sslSession.getCreationTime()).thenReturn(100L);
+
+        // when
+        sut.record(response);
+        sut.record(response);
+
+        // then
+        Assertions.assertEquals(2, sut.getRequests());
+        Assertions.assertEquals(1, sut.getNewTlsSessions());
+        Assertions.assertEquals(1, sut.getRequestsOnKnownTlsSessions());
+    }
+
+    @Test
+    void record_ManyOtherSessionsSinceLastUse_StillCountsSessionAsKnown() {
+        // given
+        final AtomicInteger sessionId = new AtomicInteger();
+        when(response.sslSession()).thenReturn(Optional.of(sslSession));
+        when(sslSession.getId()).thenAnswer(invocation -> new byte[]{(byte) (sessionId.get() >> 8),
+            (byte) sessionId.get()});
+        when(sslSession.getCreationTime()).thenReturn(100L);
+        for (int i = 0; i < DistributionPointMetrics.MAX_TRACKED_SESSIONS; i++) {
+            sessionId.set(i);
+            sut.record(response);
+        }
+
+        // when
+        sessionId.set(0);
+        sut.record(response);
+
+        // then
+        Assertions.assertEquals(DistributionPointMetrics.MAX_TRACKED_SESSIONS, sut.getNewTlsSessions());
+        Assertions.assertEquals(1, sut.getRequestsOnKnownTlsSessions());
+    }
+
+    @Test
+    void record_NoTls_CountsOnlyRequest() {
+        // given
+        when(response.sslSession()).thenReturn(Optional.empty());
+
+        // when
+        sut.record(response);
+
+        // then
+        Assertions.assertEquals(1, sut.getRequests());
+        Assertions.assertEquals(0, sut.getNewTlsSessions());
+        Assertions.assertEquals(0, sut.getRequestsOnKnownTlsSessions());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.service.certificate.DistributionPointAddressProvider;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributionPointMirrorSyncTest {
+
+    private static final String PATH_CER = "https://tsci.intel.com/content/IPCS/certs/";
+    private static final String HOST_PATH = "tsci.intel.com/content/IPCS/";
+    private static final String DEVICE_ID_URL = PATH_CER + "deviceid_0807060504030201_SKI.cer";
+    private static final String IID_URL = PATH_CER + "iiduds_0807060504030201_SKI.cer";
+    private static final String PARENT_URL = PATH_CER + "parent.cer";
+    private static final String CRL_URL = "https://tsci.intel.com/content/IPCS/crls/parent.crl";
+    private static final byte[] DEVICE_ID_BYTES = new byte[]{1};
+    private static final byte[] PARENT_BYTES = new byte[]{2};
+    private static final byte[] CRL_BYTES = new byte[]{3};
+
+    @Mock
+    private DistributionPointConnector connector;
+
+    @Mock
+    private DistributionPointAddressProvider addressProvider;
+
+    @Mock
+    private X509CertificateParser certificateParser;
+
+    @Mock
+    private X509Certificate deviceIdCert;
+
+    @Mock
+    private X509Certificate parentCert;
+
+    @Test
+    void fetch_DiceEntry_FetchesCertificateWithIssuersAndCrls() {
+        // given
+        final var sut = new DistributionPointMirrorSync(connector, addressProvider, certificateParser);
+        when(addressProvider.getDeviceIdCertFilename(any())).thenReturn(DEVICE_ID_URL);
+        when(addressProvider.getIidUdsCertFilename(any())).thenReturn(IID_URL);
+        when(connector.getBytes(DEVICE_ID_URL)).thenReturn(DEVICE_ID_BYTES);
+        when(connector.tryGetBytes(IID_URL)).thenReturn(Optional.empty());
+        when(connector.getBytes(PARENT_URL)).thenReturn(PARENT_BYTES);
+        when(connector.getBytes(CRL_URL)).thenReturn(CRL_BYTES);
+        when(certificateParser.toX509(DEVICE_ID_BYTES)).thenReturn(deviceIdCert);
+        when(certificateParser.toX509(PARENT_BYTES)).thenReturn(parentCert);
+        when(certificateParser.getPathToCrlDistributionPoint(deviceIdCert)).thenReturn(Optional.of(CRL_URL));
+        when(certificateParser.getPathToCrlDistributionPoint(parentCert)).thenReturn(Optional.empty());
+        when(certificateParser.getPathToIssuerCertificate(deviceIdCert)).thenReturn(PARENT_URL);
+
+        final Map<String, byte[]> result;
+        try (MockedStatic<X509CertificateUtils> utilsMockStatic = mockStatic(X509CertificateUtils.class)) {
+            utilsMockStatic.when(() -> X509CertificateUtils.isSelfSigned(parentCert)).thenReturn(true);
+
+            // when
+            result = sut.fetch(List.of("# devices", "", "dice,0807060504030201,SKI"));
+        }
+
+        // then
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertArrayEquals(DEVICE_ID_BYTES,
+            result.get(HOST_PATH + "certs/deviceid_0807060504030201_SKI.cer"));
+        Assertions.assertArrayEquals(PARENT_BYTES, result.get(HOST_PATH + "certs/parent.cer"));
+        Assertions.assertArrayEquals(CRL_BYTES, result.get(HOST_PATH + "crls/parent.crl"));
+    }
+
+    @Test
+    void fetch_InvalidEntry_Throws() {
+        // given
+        final var sut = new DistributionPointMirrorSync(connector, addressProvider, certificateParser);
+
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.fetch(List.of("dice,onlyUid")));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+class DistributionPointMirrorTest {
+
+    private static final String CERT_URL = "https://tsci.intel.com/content/IPCS/certs/cert.cer";
+    private static final String CRL_URL = "https://tsci.intel.com/content/IPCS/crls/crl.crl";
+    private static final String CERT_PATH = "tsci.intel.com/content/IPCS/certs/cert.cer";
+    private static final String CRL_PATH = "tsci.intel.com/content/IPCS/crls/crl.crl";
+    private static final byte[] CERT_BYTES = new byte[]{1, 2, 3};
+    private static final byte[] CRL_BYTES = new byte[]{4, 5};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void toRelativePath_ReturnsHostAndPath() {
+        // when
+        final String result = DistributionPointMirror.toRelativePath(CERT_URL);
+
+        // then
+        Assertions.assertEquals(CERT_PATH, result);
+    }
+
+    @Test
+    void toRelativePath_PathOutsideOfHost_Throws() {
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DistributionPointMirror.toRelativePath("https://tsci.intel.com/../../etc/passwd"));
+    }
+
+    @Test
+    void open_Directory_ReturnsStoredContent() throws IOException {
+        // given
+        final Path mirrorPath = tempDir.resolve("mirror");
+        DirectoryMirror.write(mirrorPath, Map.of(CERT_PATH, CERT_BYTES, CRL_PATH, CRL_BYTES));
+
+        // when
+        try (DistributionPointMirror sut = DistributionPointMirror.open(mirrorPath)) {
+            // then
+            Assertions.assertTrue(sut instanceof DirectoryMirror);
+            verifyContent(sut);
+        }
+    }
+
+    @Test
+    void open_Archive_ReturnsStoredContent() throws IOException {
+        // given
+        final Path mirrorPath = tempDir.resolve("mirror" + DistributionPointMirrorSync.ARCHIVE_EXTENSION);
+        ArchiveMirror.write(mirrorPath, Map.of(CERT_PATH, CERT_BYTES, CRL_PATH, CRL_BYTES));
+
+        // when
+        try (DistributionPointMirror sut = DistributionPointMirror.open(mirrorPath)) {
+            // then
+            Assertions.assertTrue(sut instanceof ArchiveMirror);
+            verifyContent(sut);
+        }
+    }
+
+    @Test
+    void open_NotArchive_Throws() throws IOException {
+        // given
+        final Path mirrorPath = tempDir.resolve("mirror" + DistributionPointMirrorSync.ARCHIVE_EXTENSION);
+        Files.write(mirrorPath, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // when-then
+        Assertions.assertThrows(IOException.class, () -> DistributionPointMirror.open(mirrorPath));
+    }
+
+    private static void verifyContent(DistributionPointMirror sut) {
+        Assertions.assertArrayEquals(CERT_BYTES, sut.get(CERT_URL).orElseThrow());
+        Assertions.assertArrayEquals(CRL_BYTES, sut.get(CRL_URL).orElseThrow());
+        Assertions.assertEquals(Optional.empty(), sut.get("https://tsci.intel.com/content/IPCS/certs/other.cer"));
+    }
+}
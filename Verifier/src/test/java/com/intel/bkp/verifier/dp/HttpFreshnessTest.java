@@ -0,0 +1,91 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.dp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class HttpFreshnessTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final String EXPIRES = "Thu, 01 Jan 1970 00:20:00 GMT";
+    private static final long EXPIRES_MILLIS = 20 * 60 * 1000;
+
+    @Test
+    void findFreshUntil_MaxAge_ReturnsNowPlusMaxAge() {
+        // when
+        final Optional<Long> result = HttpFreshness.findFreshUntil("public, max-age=600", EXPIRES, NOW);
+
+        // then
+        Assertions.assertEquals(Optional.of(NOW + 600 * 1000), result);
+    }
+
+    @Test
+    void findFreshUntil_OnlyExpires_ReturnsExpires() {
+        // when
+        final Optional<Long> result = HttpFreshness.findFreshUntil(null, EXPIRES, NOW);
+
+        // then
+        Assertions.assertEquals(Optional.of(EXPIRES_MILLIS), result);
+    }
+
+    @Test
+    void findFreshUntil_NoCache_ReturnsEmpty() {
+        // when
+        final Optional<Long> result = HttpFreshness.findFreshUntil("no-cache", EXPIRES, NOW);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findFreshUntil_InvalidExpires_ReturnsEmpty() {
+        // when
+        final Optional<Long> result = HttpFreshness.findFreshUntil(null, "0", NOW);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findFreshUntil_NoHeaders_ReturnsEmpty() {
+        // when
+        final Optional<Long> result = HttpFreshness.findFreshUntil(null, null, NOW);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.model;
+
+import com.intel.bkp.verifier.Utils;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+class TrustAnchorTest {
+
+    private static final String TEST_FOLDER = "certs/";
+
+    // https://tsci.intel.com/content/IPCS/certs/IPCSSigningCA.cer
+    private static final String CHILD_CERT_FILENAME = "IPCSSigningCA.cer";
+    // https://tsci.intel.com/content/IPCS/certs/IPCS.cer
+    private static final String ROOT_CERT_FILENAME = "IPCS.cer";
+
+    private static final X509CertificateParser X509_PARSER = new X509CertificateParser();
+
+    private static X509Certificate childCert;
+    private static X509Certificate rootCert;
+    private static String rootHash;
+
+    @BeforeAll
+    static void init() throws Exception {
+        childCert = X509_PARSER.toX509(Utils.readFromResources(TEST_FOLDER, CHILD_CERT_FILENAME));
+        rootCert = X509_PARSER.toX509(Utils.readFromResources(TEST_FOLDER, ROOT_CERT_FILENAME));
+        rootHash = DigestUtils.sha256Hex(rootCert.getEncoded());
+    }
+
+    @Test
+    void from_BlankHash_ReturnsNotConfigured() {
+        // when-then
+        Assertions.assertFalse(TrustAnchor.from("").isConfigured());
+    }
+
+    @Test
+    void matches_HashInUpperCase_ReturnsTrue() {
+        // when-then
+        Assertions.assertTrue(TrustAnchor.from(rootHash.toUpperCase(Locale.ROOT)).matches(rootCert));
+    }
+
+    @Test
+    void matches_HashWithColons_ReturnsTrue() {
+        // given
+        final String hashWithColons = String.join(":", rootHash.split("(?<=\\G..)"));
+
+        // when-then
+        Assertions.assertTrue(TrustAnchor.from(hashWithColons).matches(rootCert));
+    }
+
+    @Test
+    void matches_OtherCertificate_ReturnsFalse() {
+        // when-then
+        Assertions.assertFalse(TrustAnchor.from(rootHash).matches(childCert));
+    }
+
+    @Test
+    void matches_InvalidHash_ReturnsFalse() {
+        // given
+        final TrustAnchor sut = TrustAnchor.from("INVALID");
+
+        // when-then
+        Assertions.assertTrue(sut.isConfigured());
+        Assertions.assertFalse(sut.matches(rootCert));
+    }
+
+    @Test
+    void resolve_TrustStoreWithMatchingCertificate_ReturnsAnchorWithCertificate() {
+        // when
+        final TrustAnchor result = TrustAnchor.from(rootHash).resolve(List.of(childCert, rootCert));
+
+        // then
+        Assertions.assertEquals(Optional.of(rootCert), result.getCertificate());
+    }
+
+    @Test
+    void resolve_TrustStoreWithoutMatchingCertificate_ReturnsAnchorWithoutCertificate() {
+        // when
+        final TrustAnchor result = TrustAnchor.from(rootHash).resolve(List.of(childCert));
+
+        // then
+        Assertions.assertEquals(Optional.empty(), result.getCertificate());
+    }
+
+    @Test
+    void findIssuerOf_RootIssuedChild_ReturnsRoot() {
+        // given
+        final TrustAnchor sut = TrustAnchor.from(rootHash).resolve(List.of(rootCert));
+
+        // when-then
+        Assertions.assertEquals(Optional.of(rootCert), sut.findIssuerOf(childCert));
+    }
+
+    @Test
+    void findIssuerOf_RootDidNotIssueCertificate_ReturnsEmpty() throws Exception {
+        // given
+        final TrustAnchor sut = TrustAnchor.from(rootHash).resolve(List.of(rootCert));
+
+        // when-then
+        Assertions.assertEquals(Optional.empty(), sut.findIssuerOf(X509_PARSER.toX509(
+            Utils.readFromResources(TEST_FOLDER, "attestation_5ADF841DDEAD944E_00000002.cer"))));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.model.dice;
+
+import com.intel.bkp.verifier.Utils;
+import com.intel.bkp.verifier.x509.X509CertificateParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509Certificate;
+
+import static com.intel.bkp.ext.utils.HexConverter.fromHex;
+import static com.intel.bkp.verifier.model.AttestationOid.TCG_DICE_UEID;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiceCertificateViewTest {
+
+    private static final String TEST_FOLDER = "responses/";
+    private static final String FIRMWARE_CERT = "firmware_certificate.der";
+    private static final String VALID_UEID_VALUE = "041430120410020007ED000034000102030405060708";
+    private static final X509CertificateParser X509_PARSER = new X509CertificateParser();
+
+    private static byte[] firmwareCertBytes;
+
+    @Mock
+    private X509Certificate certificate;
+
+    @BeforeAll
+    static void init() throws Exception {
+        firmwareCertBytes = Utils.readFromResources(TEST_FOLDER, FIRMWARE_CERT);
+    }
+
+    @Test
+    void of_SameCertificateParsedTwice_ReturnsSameView() {
+        // given
+        final X509Certificate first = X509_PARSER.toX509(firmwareCertBytes);
+        final X509Certificate second = X509_PARSER.toX509(firmwareCertBytes);
+
+        // when-then
+        Assertions.assertSame(DiceCertificateView.of(first), DiceCertificateView.of(second));
+    }
+
+    @Test
+    void getTcbInfos_CalledTwice_ReturnsSameDecodedList() {
+        // given
+        final DiceCertificateView sut = DiceCertificateView.of(X509_PARSER.toX509(firmwareCertBytes));
+
+        // when
+        final var first = sut.getTcbInfos();
+        final var second = sut.getTcbInfos();
+
+        // then
+        Assertions.assertFalse(first.isEmpty());
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void getFingerprint_ModifiedByCaller_ReturnsUnmodifiedFingerprint() {
+        // given
+        final DiceCertificateView sut = DiceCertificateView.of(X509_PARSER.toX509(firmwareCertBytes));
+        final byte[] expected = sut.getFingerprint().clone();
+        sut.getFingerprint()[0] ^= 1;
+
+        // when
+        final byte[] result = sut.getFingerprint();
+
+        // then
+        Assertions.assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void getUeidExtension_CalledTwice_DecodesExtensionOnce() {
+        // given
+        when(certificate.getExtensionValue(TCG_DICE_UEID.getOid())).thenReturn(fromHex(VALID_UEID_VALUE));
+        final DiceCertificateView sut = new DiceCertificateView(certificate);
+
+        // when
+        final UeidExtension first = sut.getUeidExtension();
+        final UeidExtension second = sut.getUeidExtension();
+
+        // then
+        Assertions.assertSame(first, second);
+        verify(certificate).getExtensionValue(TCG_DICE_UEID.getOid());
+    }
+
+    @Test
+    void getUeidExtension_DecodingFailed_ThrowsAgainOnNextCall() {
+        // given
+        when(certificate.getExtensionValue(TCG_DICE_UEID.getOid())).thenReturn(null);
+        final DiceCertificateView sut = new DiceCertificateView(certificate);
+
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class, sut::getUeidExtension);
+        Assertions.assertThrows(IllegalArgumentException.class, sut::getUeidExtension);
+        verify(certificate, times(2)).getExtensionValue(TCG_DICE_UEID.getOid());
+    }
+}
@@ -92,7 +92,7 @@ class GetDeviceAttestationComponentTest {
         sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID);
 
         // then
-        verify(diceAttestationComponent).perform(response, REF_MEASUREMENT, DEVICE_ID);
+        verify(diceAttestationComponent).perform(appContext, response, REF_MEASUREMENT, DEVICE_ID);
     }
 
     @Test
@@ -106,7 +106,7 @@ class GetDeviceAttestationComponentTest {
         sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID);
 
         // then
-        verify(s10AttestationComponent).perform(REF_MEASUREMENT, DEVICE_ID);
+        verify(s10AttestationComponent).perform(appContext, REF_MEASUREMENT, DEVICE_ID);
     }
 
     @Test
@@ -121,7 +121,7 @@ class GetDeviceAttestationComponentTest {
             () -> sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID));
 
         // then
-        verify(s10AttestationComponent, never()).perform(REF_MEASUREMENT, DEVICE_ID);
+        verify(s10AttestationComponent, never()).perform(appContext, REF_MEASUREMENT, DEVICE_ID);
     }
 
     private void mockAppContext() {
@@ -34,23 +34,35 @@
 package com.intel.bkp.verifier.service;
 
 import com.intel.bkp.ext.core.manufacturing.model.PufType;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.exceptions.InitSessionFailedException;
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
 import com.intel.bkp.verifier.interfaces.TransportLayer;
+import com.intel.bkp.verifier.model.AttestationPhase;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.dto.VerifierExchangeResponseDTO;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import static com.intel.bkp.ext.utils.HexConverter.toHex;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,9 +88,19 @@ class VerifierExchangeImplTest {
     @Mock
     private GetDeviceAttestationComponent getAttestationComponent;
 
-    @Spy
-    @InjectMocks
-    private VerifierExchangeImpl sutSpy;
+    @Mock
+    private AppContext sessionContext;
+
+    @Mock
+    private DistributionPointClients distributionPointClients;
+
+    private VerifierExchangeImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new VerifierExchangeImpl(() -> initSessionComponent, context -> createSubKeyComponent,
+            context -> getAttestationComponent, Runnable::run, null);
+    }
 
     @Test
     void createDeviceAttestationSubKey_ContextNotHex_ReturnsError() throws Exception {
@@ -86,7 +108,7 @@ class VerifierExchangeImplTest {
         String context = "not-a-valid-hex";
 
         // when
-        int result = sutSpy.createSubKeyInternal(appContext, TRANSPORT_ID, context, PufType.EFUSE);
+        int result = sut.createSubKeyInternal(appContext, TRANSPORT_ID, context, PufType.EFUSE);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
@@ -98,11 +120,11 @@ class VerifierExchangeImplTest {
         // given
         mockAppContext();
         String context = "01020304ABCDEF";
-        when(initSessionComponent.initializeSessionForDeviceId())
+        when(initSessionComponent.initializeSessionForDeviceId(appContext))
             .thenThrow(InitSessionFailedException.class);
 
         // when
-        int result = sutSpy.createSubKeyInternal(appContext, TRANSPORT_ID, context, PufType.EFUSE);
+        int result = sut.createSubKeyInternal(appContext, TRANSPORT_ID, context, PufType.EFUSE);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
@@ -115,11 +137,11 @@ class VerifierExchangeImplTest {
         String context = "01020304ABCDEF";
         PufType pufType = PufType.EFUSE;
         mockInitSessionComponent();
-        when(createSubKeyComponent.perform(context, pufType, deviceId))
+        when(createSubKeyComponent.perform(appContext, context, pufType, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
         // when
-        int result = sutSpy.createSubKeyInternal(appContext, TRANSPORT_ID, context, pufType);
+        int result = sut.createSubKeyInternal(appContext, TRANSPORT_ID, context, pufType);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(), result);
@@ -132,11 +154,11 @@ class VerifierExchangeImplTest {
         String context = "01020304ABCDEF";
         PufType pufType = PufType.EFUSE;
         mockInitSessionComponent();
-        when(createSubKeyComponent.perform(context, pufType, deviceId))
+        when(createSubKeyComponent.perform(appContext, context, pufType, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
         // when
-        sutSpy.createSubKeyInternal(appContext, TRANSPORT_ID, context, pufType);
+        sut.createSubKeyInternal(appContext, TRANSPORT_ID, context, pufType);
 
         // then
         verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
@@ -149,11 +171,11 @@ class VerifierExchangeImplTest {
         mockAppContext();
         String refMeasurement = "some referenece measurements";
         mockInitSessionComponent();
-        when(getAttestationComponent.perform(refMeasurement, deviceId))
+        when(getAttestationComponent.perform(appContext, refMeasurement, deviceId))
             .thenThrow(TransportLayerException.class);
 
         // when
-        VerifierExchangeResponseDTO result = sutSpy.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
+        VerifierExchangeResponseDTO result = sut.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.getStatus());
@@ -166,28 +188,125 @@ class VerifierExchangeImplTest {
         mockAppContext();
         String refMeasurement = "some referenece measurements";
         mockInitSessionComponent();
-        when(getAttestationComponent.perform(refMeasurement, deviceId))
+        when(getAttestationComponent.perform(appContext, refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
         // when
-        VerifierExchangeResponseDTO result = sutSpy.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
+        VerifierExchangeResponseDTO result = sut.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
         Assertions.assertEquals(toHex(deviceId), result.getDeviceId());
     }
 
+    @Test
+    void getDeviceAttestation_Success_RecordsPhaseTimings() throws Exception {
+        // given
+        mockAppContext();
+        String refMeasurement = "some referenece measurements";
+        mockInitSessionComponent();
+        when(getAttestationComponent.perform(appContext, refMeasurement, deviceId))
+            .thenReturn(VerifierExchangeResponse.OK);
+
+        // when
+        VerifierExchangeResponseDTO result = sut.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
+
+        // then
+        Assertions.assertEquals(TRANSPORT_ID, result.getTransportId());
+        Assertions.assertEquals(EnumSet.allOf(AttestationPhase.class), result.getPhaseTimings().keySet());
+    }
+
+    @Test
+    void getDeviceAttestation_WithOwnDistributionPointClients_UsesThemInSession() throws Exception {
+        // given
+        sut = new VerifierExchangeImpl(() -> initSessionComponent, context -> createSubKeyComponent,
+            context -> getAttestationComponent, Runnable::run, distributionPointClients);
+        final String refMeasurement = "some referenece measurements";
+        when(appContext.withNewTransportLayer()).thenReturn(appContext);
+        when(appContext.withDistributionPointClients(distributionPointClients)).thenReturn(sessionContext);
+        when(sessionContext.getTransportLayer()).thenReturn(transportLayer);
+        when(initSessionComponent.initializeSessionForDeviceId(sessionContext)).thenReturn(deviceId);
+        when(getAttestationComponent.perform(sessionContext, refMeasurement, deviceId))
+            .thenReturn(VerifierExchangeResponse.OK);
+
+        // when
+        final VerifierExchangeResponseDTO result =
+            sut.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
+
+        // then
+        Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(), result.getStatus());
+    }
+
+    @Test
+    void close_WithOwnDistributionPointClients_ClosesThem() throws Exception {
+        // given
+        sut = new VerifierExchangeImpl(() -> initSessionComponent, context -> createSubKeyComponent,
+            context -> getAttestationComponent, Runnable::run, distributionPointClients);
+
+        // when
+        sut.close();
+
+        // then
+        verify(distributionPointClients).close();
+    }
+
+    @Test
+    void getDeviceAttestations_ReturnsResponsesInOrderOfTransportIds() throws Exception {
+        // given
+        final String otherTransportId = "fghij";
+        String refMeasurement = "some referenece measurements";
+        mockAppContext();
+        mockInitSessionComponent();
+        when(getAttestationComponent.perform(appContext, refMeasurement, deviceId))
+            .thenReturn(VerifierExchangeResponse.OK);
+
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class)) {
+            appContextMockStatic.when(AppContext::acquire).thenReturn(appContext);
+
+            // when
+            final List<VerifierExchangeResponseDTO> result =
+                sut.getDeviceAttestations(List.of(TRANSPORT_ID, otherTransportId), refMeasurement);
+
+            // then
+            Assertions.assertEquals(2, result.size());
+            Assertions.assertEquals(TRANSPORT_ID, result.get(0).getTransportId());
+            Assertions.assertEquals(otherTransportId, result.get(1).getTransportId());
+            result.forEach(response -> Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(),
+                response.getStatus()));
+            verify(appContext).init();
+        }
+    }
+
+    @Test
+    void getDeviceAttestations_InitFailed_ReturnsErrorForEachDevice() {
+        // given
+        doThrow(VerifierKeyNotInitializedException.class).when(appContext).init();
+
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class)) {
+            appContextMockStatic.when(AppContext::acquire).thenReturn(appContext);
+
+            // when
+            final List<VerifierExchangeResponseDTO> result =
+                sut.getDeviceAttestations(Map.of(TRANSPORT_ID, "some referenece measurements"));
+
+            // then
+            Assertions.assertEquals(1, result.size());
+            Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.get(0).getStatus());
+            Assertions.assertEquals(TRANSPORT_ID, result.get(0).getTransportId());
+        }
+    }
+
     @Test
     void getDeviceAttestation_CallsInitializeAndDisconnect() throws Exception {
         // given
         mockAppContext();
         String refMeasurement = "some referenece measurements";
         mockInitSessionComponent();
-        when(getAttestationComponent.perform(refMeasurement, deviceId))
+        when(getAttestationComponent.perform(appContext, refMeasurement, deviceId))
             .thenReturn(VerifierExchangeResponse.OK);
 
         // when
-        sutSpy.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
+        sut.getAttestationInternal(appContext, TRANSPORT_ID, refMeasurement);
 
         // then
         verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
@@ -201,7 +320,7 @@ class VerifierExchangeImplTest {
         when(transportLayer.sendCommand(any())).thenThrow(TransportLayerException.class);
 
         // when
-        int result = sutSpy.healthCheckInternal(appContext, TRANSPORT_ID);
+        int result = sut.healthCheckInternal(appContext, TRANSPORT_ID);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
@@ -214,7 +333,7 @@ class VerifierExchangeImplTest {
         when(transportLayer.sendCommand(any())).thenReturn(new byte[] { 0x01, 0x02 });
 
         // when
-        int result = sutSpy.healthCheckInternal(appContext, TRANSPORT_ID);
+        int result = sut.healthCheckInternal(appContext, TRANSPORT_ID);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(), result);
@@ -227,7 +346,7 @@ class VerifierExchangeImplTest {
         when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
 
         // when
-        int result = sutSpy.healthCheckInternal(appContext, TRANSPORT_ID);
+        int result = sut.healthCheckInternal(appContext, TRANSPORT_ID);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
@@ -240,7 +359,7 @@ class VerifierExchangeImplTest {
         when(transportLayer.sendCommand(any())).thenReturn(null);
 
         // when
-        int result = sutSpy.healthCheckInternal(appContext, TRANSPORT_ID);
+        int result = sut.healthCheckInternal(appContext, TRANSPORT_ID);
 
         // then
         Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result);
@@ -253,18 +372,122 @@ class VerifierExchangeImplTest {
         when(transportLayer.sendCommand(any())).thenReturn(new byte[0]);
 
         // when
-        sutSpy.healthCheckInternal(appContext, TRANSPORT_ID);
+        sut.healthCheckInternal(appContext, TRANSPORT_ID);
 
         // then
         verify(transportLayer, times(1)).initialize(TRANSPORT_ID);
         verify(transportLayer, times(1)).disconnect();
     }
 
+    @Test
+    void getDeviceAttestationAsync_ReturnsResultOfSynchronousCall() {
+        // given
+        final String refMeasurement = "ref";
+        final VerifierExchangeResponseDTO expected =
+            new VerifierExchangeResponseDTO(VerifierExchangeResponse.OK.getCode(), toHex(deviceId));
+        final VerifierExchangeImpl sutSpy = spy(sut);
+        doReturn(expected).when(sutSpy).getDeviceAttestation(TRANSPORT_ID, refMeasurement);
+
+        // when
+        final CompletableFuture<VerifierExchangeResponseDTO> result =
+            sutSpy.getDeviceAttestationAsync(TRANSPORT_ID, refMeasurement);
+
+        // then
+        Assertions.assertSame(expected, result.join());
+    }
+
+    @Test
+    void createDeviceAttestationSubKeyAsync_ReturnsResultOfSynchronousCall() {
+        // given
+        final String context = "01020304ABCDEF";
+        final VerifierExchangeImpl sutSpy = spy(sut);
+        doReturn(VerifierExchangeResponse.OK.getCode()).when(sutSpy)
+            .createDeviceAttestationSubKey(TRANSPORT_ID, context, PufType.EFUSE);
+
+        // when
+        final CompletableFuture<Integer> result =
+            sutSpy.createDeviceAttestationSubKeyAsync(TRANSPORT_ID, context, PufType.EFUSE);
+
+        // then
+        Assertions.assertEquals(VerifierExchangeResponse.OK.getCode(), result.join());
+    }
+
+    @Test
+    void start_CalledTwice_AcquiresContextOnce() {
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class)) {
+            appContextMockStatic.when(AppContext::acquire).thenReturn(appContext);
+
+            // when
+            sut.start();
+            sut.start();
+
+            // then
+            appContextMockStatic.verify(AppContext::acquire, times(1));
+        }
+    }
+
+    @Test
+    void close_AfterStart_ReleasesContextOnce() throws Exception {
+        // given
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class)) {
+            appContextMockStatic.when(AppContext::acquire).thenReturn(appContext);
+            sut.start();
+        }
+
+        // when
+        sut.close();
+        sut.close();
+
+        // then
+        verify(appContext, times(1)).close();
+    }
+
+    @Test
+    void start_AfterClose_AcquiresAndReleasesContextAgain() throws Exception {
+        // given
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class)) {
+            appContextMockStatic.when(AppContext::acquire).thenReturn(appContext);
+            sut.start();
+            sut.close();
+
+            // when
+            sut.start();
+            sut.close();
+
+            // then
+            appContextMockStatic.verify(AppContext::acquire, times(2));
+            verify(appContext, times(2)).close();
+        }
+    }
+
+    @Test
+    void close_WithoutStart_DoesNotReleaseContext() throws Exception {
+        // when
+        sut.close();
+
+        // then
+        verify(appContext, never()).close();
+    }
+
+    @Test
+    void healthCheckAsync_ReturnsResultOfSynchronousCall() {
+        // given
+        final VerifierExchangeImpl sutSpy = spy(sut);
+        doReturn(VerifierExchangeResponse.ERROR.getCode()).when(sutSpy).healthCheck(TRANSPORT_ID);
+
+        // when
+        final CompletableFuture<Integer> result = sutSpy.healthCheckAsync(TRANSPORT_ID);
+
+        // then
+        Assertions.assertEquals(VerifierExchangeResponse.ERROR.getCode(), result.join());
+    }
+
     private void mockAppContext() {
+        when(appContext.withNewTransportLayer()).thenReturn(appContext);
         when(appContext.getTransportLayer()).thenReturn(transportLayer);
     }
 
     private void mockInitSessionComponent() throws TransportLayerException, InitSessionFailedException {
-        when(initSessionComponent.initializeSessionForDeviceId()).thenReturn(deviceId);
+        when(initSessionComponent.initializeSessionForDeviceId(appContext)).thenReturn(deviceId);
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
+import com.intel.bkp.verifier.dp.DistributionPointMirror;
+import com.intel.bkp.verifier.x509.VerifiedLinkCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppContextTest {
+
+    @Mock
+    private SQLiteHelper sqLiteHelper;
+
+    @Mock
+    private CertificateCache certificateCache;
+
+    @Mock
+    private CrlCache crlCache;
+
+    @Mock
+    private DistributionPointClients distributionPointClients;
+
+    @Mock
+    private DistributionPointMirror distributionPointMirror;
+
+    @Mock
+    private X509Certificate child;
+
+    @Mock
+    private X509Certificate parent;
+
+    @Test
+    void close_LastUsage_ReleasesCachesAndNextCallInitializesNewContext() throws Exception {
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class, CALLS_REAL_METHODS)) {
+            // given
+            appContextMockStatic.when(AppContext::initialize).thenAnswer(invocation -> prepareAppContext());
+            final AppContext call = AppContext.acquire();
+            final String linkKey = putVerifiedLink();
+
+            // when
+            call.close();
+
+            // then
+            verify(crlCache).close();
+            verify(distributionPointClients).close();
+            verify(sqLiteHelper).close();
+            Assertions.assertFalse(VerifiedLinkCache.instance().isVerified(linkKey));
+
+            try (AppContext nextCall = AppContext.acquire()) {
+                Assertions.assertNotSame(call, nextCall);
+            }
+            appContextMockStatic.verify(AppContext::initialize, times(2));
+        }
+    }
+
+    @Test
+    void close_StartedVerifierHoldsContext_KeepsCachesBetweenCalls() throws Exception {
+        try (MockedStatic<AppContext> appContextMockStatic = mockStatic(AppContext.class, CALLS_REAL_METHODS)) {
+            // given
+            appContextMockStatic.when(AppContext::initialize).thenAnswer(invocation -> prepareAppContext());
+            final AppContext startedVerifier = AppContext.acquire();
+            final AppContext call = AppContext.acquire();
+
+            // when
+            call.close();
+
+            // then
+            verify(crlCache, never()).close();
+            try (AppContext nextCall = AppContext.acquire()) {
+                Assertions.assertSame(call, nextCall);
+                Assertions.assertSame(certificateCache, nextCall.getCertificateCache());
+            }
+            appContextMockStatic.verify(AppContext::initialize, times(1));
+
+            startedVerifier.close();
+            verify(crlCache).close();
+        }
+    }
+
+    @Test
+    void withDistributionPointClients_AppliesMirrorOfContext() {
+        // given
+        final AppContext appContext = new AppContext(null, null, null, sqLiteHelper, null, null, certificateCache,
+            crlCache, distributionPointMirror, distributionPointClients, null);
+        final DistributionPointClients otherClients = new DistributionPointClients();
+
+        // when
+        final AppContext result = appContext.withDistributionPointClients(otherClients);
+
+        // then
+        Assertions.assertSame(otherClients, result.getDistributionPointClients());
+        Assertions.assertSame(distributionPointMirror, otherClients.getMirror());
+    }
+
+    private String putVerifiedLink() throws Exception {
+        final Date future = Date.from(Instant.now().plus(1, ChronoUnit.DAYS));
+        when(child.getEncoded()).thenReturn(new byte[]{1, 2, 3});
+        when(child.getNotAfter()).thenReturn(future);
+        when(parent.getEncoded()).thenReturn(new byte[]{4, 5, 6});
+        when(parent.getNotAfter()).thenReturn(future);
+        final String key = VerifiedLinkCache.instance().linkKey(child, parent, "context").orElseThrow();
+        VerifiedLinkCache.instance().putLink(key, child, parent);
+        return key;
+    }
+
+    private AppContext prepareAppContext() {
+        return new AppContext(null, null, null, sqLiteHelper, null, null, certificateCache, crlCache, null,
+            distributionPointClients, null);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.cert.X509Certificate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+
+class CertificateCacheTest {
+
+    private static final String URL = "https://dp/cert.cer";
+    private static final byte[] CERT_BYTES = new byte[]{1, 2, 3, 4};
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    private final X509Certificate certificate = mock(X509Certificate.class);
+
+    @Test
+    void get_SecondTime_ReturnsFromMemory() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 60, "", 0, 0));
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(Optional.of(certificate), result);
+        Assertions.assertEquals(1, downloads.get());
+        Assertions.assertEquals(1, parsed.get());
+    }
+
+    @Test
+    void get_InDiskCache_ReturnsWithoutDownload() {
+        // given
+        final CertificateCacheConfig config = new CertificateCacheConfig(10, 60, cacheDirectory.toString(), 0, 0);
+        new CertificateCache(config).get(URL, this::download, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = new CertificateCache(config).get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(Optional.of(certificate), result);
+        Assertions.assertEquals(1, downloads.get());
+        Assertions.assertEquals(2, parsed.get());
+    }
+
+    @Test
+    void get_DiskCacheCorrupted_DownloadsAgain() throws Exception {
+        // given
+        final CertificateCacheConfig config = new CertificateCacheConfig(10, 60, cacheDirectory.toString(), 0, 0);
+        new CertificateCache(config).get(URL, this::download, this::parse);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            final Path certificateFile = files
+                .filter(path -> path.toString().endsWith(CertificateCache.CERTIFICATE_FILE_EXTENSION))
+                .findFirst()
+                .orElseThrow();
+            Files.write(certificateFile, new byte[]{9, 9});
+        }
+
+        // when
+        new CertificateCache(config).get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_Expired_DownloadsAgain() {
+        // given
+        final CertificateCache sut = new CertificateCache(
+            new CertificateCacheConfig(10, 0, cacheDirectory.toString(), 0, 0));
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_ExpiredAndDistributionPointUnavailable_ReturnsCachedCopy() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 0, "", 0, 0));
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, (url, validators) -> {
+            downloads.incrementAndGet();
+            return Optional.empty();
+        }, this::parse);
+
+        // then
+        Assertions.assertEquals(Optional.of(certificate), result);
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_FromDiskCache_ExpiresAfterTtlCountedFromDownload() throws Exception {
+        // given
+        final CertificateCacheConfig config = new CertificateCacheConfig(10, 1, cacheDirectory.toString(), 0, 0);
+        new CertificateCache(config).get(URL, this::download, this::parse);
+        setDownloadTime(System.currentTimeMillis() - 900);
+        final CertificateCache sut = new CertificateCache(config);
+        sut.get(URL, this::download, this::parse);
+        Thread.sleep(200);
+
+        // when
+        sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_NotFound_IsNotCached() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 60, "", 0, 0));
+        final Function<String, Optional<byte[]>> notFound = url -> {
+            downloads.incrementAndGet();
+            return Optional.empty();
+        };
+        sut.get(URL, notFound, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, notFound, this::parse);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_ExpiredAndNotModified_ReturnsCachedWithoutParsing() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 0, "", 0, 0));
+        final HttpValidators validators = new HttpValidators("\"etag\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+        sut.get(URL, (url, previous) -> Optional.of(DistributionPointResponse.modified(CERT_BYTES, validators)),
+            this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, (url, previous) -> {
+            Assertions.assertEquals(validators, previous);
+            downloads.incrementAndGet();
+            return Optional.of(DistributionPointResponse.notModified(previous));
+        }, this::parse);
+
+        // then
+        Assertions.assertEquals(Optional.of(certificate), result);
+        Assertions.assertEquals(1, downloads.get());
+        Assertions.assertEquals(1, parsed.get());
+    }
+
+    @Test
+    void get_NotFoundOnDistributionPoint_IsNotRequestedAgainWithinNegativeTtl() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 60, "", 60, 0));
+        sut.get(URL, this::notFound, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, this::notFound, this::parse);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(1, downloads.get());
+    }
+
+    @Test
+    void get_NotFoundOnDistributionPoint_MemoryCacheDisabled_IsNotRequestedAgainWithinNegativeTtl() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(0, 60, "", 60, 0));
+        sut.get(URL, this::notFound, this::parse);
+
+        // when
+        final Optional<X509Certificate> result = sut.get(URL, this::notFound, this::parse);
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(1, downloads.get());
+    }
+
+    @Test
+    void get_NotFoundOnDistributionPoint_NegativeTtlDisabled_RequestsAgain() {
+        // given
+        final CertificateCache sut = new CertificateCache(new CertificateCacheConfig(10, 60, "", 0, 0));
+        sut.get(URL, this::notFound, this::parse);
+
+        // when
+        sut.get(URL, this::notFound, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    private void setDownloadTime(long millis) throws Exception {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(millis));
+            }
+        }
+    }
+
+    private Optional<DistributionPointResponse> notFound(String url, HttpValidators validators) {
+        downloads.incrementAndGet();
+        return Optional.of(DistributionPointResponse.notFound());
+    }
+
+    private Optional<byte[]> download(String url) {
+        downloads.incrementAndGet();
+        return Optional.of(CERT_BYTES);
+    }
+
+    private X509Certificate parse(byte[] bytes) {
+        Assertions.assertArrayEquals(CERT_BYTES, bytes);
+        parsed.incrementAndGet();
+        return certificate;
+    }
+}
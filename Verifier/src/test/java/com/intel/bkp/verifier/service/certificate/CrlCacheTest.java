@@ -0,0 +1,249 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
+import com.intel.bkp.verifier.exceptions.ConnectionException;
+import com.intel.bkp.verifier.model.CrlCacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509CRL;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrlCacheTest {
+
+    private static final String URL = "https://dp/crl.crl";
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+    private static final byte[] CRL_BYTES = new byte[]{1, 2, 3};
+    private static final HttpValidators VALIDATORS = new HttpValidators("\"etag\"", null);
+
+    @Mock
+    private X509CRL crl;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    private CrlCache sut;
+
+    @AfterEach
+    void cleanUp() {
+        sut.close();
+    }
+
+    @Test
+    void get_BeforeNextUpdate_ReturnsCached() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        mockNextUpdate(System.currentTimeMillis() + HOUR_MILLIS);
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        final X509CRL result = sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(crl, result);
+        Assertions.assertEquals(1, downloads.get());
+    }
+
+    @Test
+    void get_AfterNextUpdate_DownloadsAgain() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_DownloadFailsWithinGracePeriod_ReturnsLastGoodCopy() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        final X509CRL result = sut.get(URL, this::failDownload, this::parse);
+
+        // then
+        Assertions.assertEquals(crl, result);
+    }
+
+    @Test
+    void get_DownloadFailsAfterGracePeriod_Throws() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(0, false, 300));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+
+        // when-then
+        Assertions.assertThrows(ConnectionException.class, () -> sut.get(URL, this::failDownload, this::parse));
+    }
+
+    @Test
+    void get_NoNextUpdate_DownloadsEveryTime() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        sut.get(URL, this::download, this::parse);
+
+        // when
+        sut.get(URL, this::download, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_NotModified_ReturnsCachedWithoutParsing() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        final X509CRL cachedCrl = sut.get(URL, this::download, this::parse);
+        final AtomicReference<HttpValidators> sentValidators = new AtomicReference<>();
+
+        // when
+        final X509CRL result = sut.get(URL, (url, validators) -> {
+            sentValidators.set(validators);
+            return Optional.of(DistributionPointResponse.notModified(validators));
+        }, this::parse);
+
+        // then
+        Assertions.assertSame(cachedCrl, result);
+        Assertions.assertEquals(VALIDATORS, sentValidators.get());
+        Assertions.assertEquals(1, parsed.get());
+    }
+
+    @Test
+    void get_AfterNotModified_ReturnsCachedWithoutRequestForRevalidationTtl() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+        sut.get(URL, this::notModified, this::parse);
+
+        // when
+        final X509CRL result = sut.get(URL, this::notModified, this::parse);
+
+        // then
+        Assertions.assertSame(crl, result);
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_AfterNotModifiedWithFreshnessInResponse_ReturnsCachedUntilThen() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 0));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+        sut.get(URL, (url, validators) -> {
+            downloads.incrementAndGet();
+            return Optional.of(DistributionPointResponse.notModified(validators,
+                System.currentTimeMillis() + HOUR_MILLIS));
+        }, this::parse);
+
+        // when
+        sut.get(URL, this::notModified, this::parse);
+
+        // then
+        Assertions.assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void get_AfterNotModifiedAndTtlPassed_RevalidatesAgain() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 0));
+        mockNextUpdate(System.currentTimeMillis() - 1);
+        sut.get(URL, this::download, this::parse);
+        sut.get(URL, this::notModified, this::parse);
+
+        // when
+        sut.get(URL, this::notModified, this::parse);
+
+        // then
+        Assertions.assertEquals(3, downloads.get());
+    }
+
+    @Test
+    void getRevokedSerials_CachedCrl_ReturnsSameIndex() {
+        // given
+        sut = new CrlCache(new CrlCacheConfig(3600, false, 300));
+        final X509CRL cachedCrl = sut.get(URL, this::download, this::parse);
+
+        // when
+        final RevokedSerials first = sut.getRevokedSerials(URL, cachedCrl);
+        final RevokedSerials second = sut.getRevokedSerials(URL, cachedCrl);
+
+        // then
+        Assertions.assertSame(first, second);
+    }
+
+    private void mockNextUpdate(long time) {
+        when(crl.getNextUpdate()).thenReturn(new Date(time));
+    }
+
+    private Optional<DistributionPointResponse> download(String url, HttpValidators validators) {
+        downloads.incrementAndGet();
+        return Optional.of(DistributionPointResponse.modified(CRL_BYTES, VALIDATORS));
+    }
+
+    private Optional<DistributionPointResponse> notModified(String url, HttpValidators validators) {
+        downloads.incrementAndGet();
+        return Optional.of(DistributionPointResponse.notModified(validators));
+    }
+
+    private Optional<DistributionPointResponse> failDownload(String url, HttpValidators validators) {
+        throw new ConnectionException("Failed to make request to distribution point.");
+    }
+
+    private X509CRL parse(byte[] bytes) {
+        parsed.incrementAndGet();
+        return crl;
+    }
+}
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -58,6 +59,7 @@ import java.util.Set;
 
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -89,7 +91,7 @@ class CrlVerifierTest {
     @Mock
     private X509CertificateParser certificateParser;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private ICrlProvider crlProvider;
 
     @Mock
@@ -225,6 +227,26 @@ class CrlVerifierTest {
         verifyNoInteractions(x509CrlParentVerifier);
     }
 
+    @Test
+    void verify_CrlContentModifiedUnderAlreadyVerifiedSignature_Throws() throws Exception {
+        // given
+        final X509CRL modifiedCRL = mock(X509CRL.class);
+        final byte[] signature = new byte[]{1, 2, 3};
+        lenient().when(leafCRL.getSignature()).thenReturn(signature);
+        lenient().when(modifiedCRL.getSignature()).thenReturn(signature);
+        when(parentCertificate.getPublicKey()).thenReturn(parentPublicKey);
+        mockSerialNumber(leafCertificate, NOT_REVOKED_SERIAL_NUMBER);
+        when(certificateParser.getPathToCrlDistributionPoint(leafCertificate)).thenReturn(Optional.of(LEAF_CRL_PATH));
+        when(crlProvider.getCrl(LEAF_CRL_PATH)).thenReturn(leafCRL, modifiedCRL);
+        doThrow(new X509ParsingException("")).when(x509CrlParentVerifier).verify(modifiedCRL, parentPublicKey);
+        sut.certificates(List.of(leafCertificate, parentCertificate));
+        Assertions.assertTrue(sut.verify());
+
+        // when-then
+        Assertions.assertThrows(CrlSignatureException.class, () -> sut.verify());
+        verify(x509CrlParentVerifier).verify(modifiedCRL, parentPublicKey);
+    }
+
     private void mockChainWith3Certs() {
         when(certificates.listIterator()).thenReturn(certificateChainIterator);
         when(certificateChainIterator.hasNext()).thenReturn(true, true, false);
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -67,7 +68,7 @@ public class CrlVerifierTestWithRealCertificates {
     private static X509Certificate intermediateCertRevoked;
     private static X509Certificate rootCert;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private ICrlProvider crlProvider;
 
     private CrlVerifier sut;
@@ -33,9 +33,14 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
+import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
 import com.intel.bkp.verifier.dp.ProxyCallbackFactory;
 import com.intel.bkp.verifier.interfaces.IProxyCallback;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
 import com.intel.bkp.verifier.model.DistributionPoint;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.Proxy;
@@ -48,14 +53,18 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -67,9 +76,13 @@ class DiceAttestationRevocationServiceTest {
     private static final String DEVICE_ID_NAME = "DEVICE_ID_NAME";
     private static final String ENROLLMENT_NAME = "ENROLLMENT_NAME";
     private static final String IID_NAME = "IID_NAME";
-    private static final Optional<byte[]> EMPTY_CERT = Optional.empty();
+    private static final Optional<DistributionPointResponse> EMPTY_CERT = Optional.empty();
     private static final byte[] NOT_EMPTY_CERT = new byte[]{};
+    private static final Optional<DistributionPointResponse> NOT_EMPTY_RESPONSE =
+        Optional.of(DistributionPointResponse.modified(NOT_EMPTY_CERT));
     private static final DiceParams DICE_PARAMS = new DiceParams("SKI", "UID");
+    private static final String PARENT_PATH = "PARENT_PATH";
+    private static final String CRL_PATH = "CRL_PATH";
     private static final DiceEnrollmentParams DICE_ENROLLMENT_PARAMS = new DiceEnrollmentParams("SKIER", "SVN", "UID");
 
     private static MockedStatic<ProxyCallbackFactory> proxyFactoryMockStatic;
@@ -89,6 +102,12 @@ class DiceAttestationRevocationServiceTest {
     @Mock
     private DistributionPointAddressProvider addressProvider;
 
+    @Mock
+    private ICrlProvider crlProvider;
+
+    @Spy
+    private CertificateCache certificateCache = new CertificateCache(new CertificateCacheConfig());
+
     @InjectMocks
     private DiceAttestationRevocationService sut;
 
@@ -116,6 +135,7 @@ class DiceAttestationRevocationServiceTest {
         final var proxyCallback = mock(IProxyCallback.class);
 
         when(appContext.getLibConfig()).thenReturn(libConfig);
+        when(appContext.getDistributionPointClients()).thenReturn(new DistributionPointClients());
         when(libConfig.getDistributionPoint()).thenReturn(dp);
         when(dp.getPathCer()).thenReturn(certPath);
         when(dp.getTrustedRootHash()).thenReturn(trustedRootHash);
@@ -142,7 +162,7 @@ class DiceAttestationRevocationServiceTest {
     void fmGetDeviceIdCert_WithEmpty() {
         // given
         when(addressProvider.getDeviceIdCertFilename(DICE_PARAMS)).thenReturn(DEVICE_ID_NAME);
-        when(connector.tryGetBytes(DEVICE_ID_NAME)).thenReturn(EMPTY_CERT);
+        when(connector.tryGetBytes(DEVICE_ID_NAME, HttpValidators.NONE)).thenReturn(EMPTY_CERT);
 
         // when
         final Optional<X509Certificate> result = sut.fmGetDeviceIdCert(DICE_PARAMS);
@@ -155,7 +175,7 @@ class DiceAttestationRevocationServiceTest {
     void fmGetDeviceIdCert_ReturnsCert() {
         // given
         when(addressProvider.getDeviceIdCertFilename(DICE_PARAMS)).thenReturn(DEVICE_ID_NAME);
-        when(connector.tryGetBytes(DEVICE_ID_NAME)).thenReturn(Optional.of(NOT_EMPTY_CERT));
+        when(connector.tryGetBytes(DEVICE_ID_NAME, HttpValidators.NONE)).thenReturn(NOT_EMPTY_RESPONSE);
         when(certificateParser.toX509(NOT_EMPTY_CERT)).thenReturn(certificate);
 
         // when
@@ -171,7 +191,7 @@ class DiceAttestationRevocationServiceTest {
         // given
         when(addressProvider.getEnrollmentCertFilename(DICE_ENROLLMENT_PARAMS))
             .thenReturn(ENROLLMENT_NAME);
-        when(connector.tryGetBytes(ENROLLMENT_NAME)).thenReturn(EMPTY_CERT);
+        when(connector.tryGetBytes(ENROLLMENT_NAME, HttpValidators.NONE)).thenReturn(EMPTY_CERT);
 
         // when
         final Optional<X509Certificate> result = sut.fmGetEnrollmentCert(DICE_ENROLLMENT_PARAMS);
@@ -185,7 +205,7 @@ class DiceAttestationRevocationServiceTest {
         // given
         when(addressProvider.getEnrollmentCertFilename(DICE_ENROLLMENT_PARAMS)).
             thenReturn(ENROLLMENT_NAME);
-        when(connector.tryGetBytes(ENROLLMENT_NAME)).thenReturn(Optional.of(NOT_EMPTY_CERT));
+        when(connector.tryGetBytes(ENROLLMENT_NAME, HttpValidators.NONE)).thenReturn(NOT_EMPTY_RESPONSE);
         when(certificateParser.toX509(NOT_EMPTY_CERT)).thenReturn(certificate);
 
         // when
@@ -200,7 +220,7 @@ class DiceAttestationRevocationServiceTest {
     void fmGetIidUdsCert_WithEmpty() {
         // given
         when(addressProvider.getIidUdsCertFilename(DICE_PARAMS)).thenReturn(IID_NAME);
-        when(connector.tryGetBytes(IID_NAME)).thenReturn(EMPTY_CERT);
+        when(connector.tryGetBytes(IID_NAME, HttpValidators.NONE)).thenReturn(EMPTY_CERT);
 
         // when
         final Optional<X509Certificate> result = sut.fmGetIidUdsCert(DICE_PARAMS);
@@ -213,7 +233,7 @@ class DiceAttestationRevocationServiceTest {
     void fmGetIidUdsCert_ReturnsCert() {
         // given
         when(addressProvider.getIidUdsCertFilename(DICE_PARAMS)).thenReturn(IID_NAME);
-        when(connector.tryGetBytes(IID_NAME)).thenReturn(Optional.of(NOT_EMPTY_CERT));
+        when(connector.tryGetBytes(IID_NAME, HttpValidators.NONE)).thenReturn(NOT_EMPTY_RESPONSE);
         when(certificateParser.toX509(NOT_EMPTY_CERT)).thenReturn(certificate);
 
         // when
@@ -223,4 +243,27 @@ class DiceAttestationRevocationServiceTest {
         Assertions.assertTrue(result.isPresent());
         Assertions.assertEquals(certificate, result.get());
     }
+
+    @Test
+    void verifyChains_PrefetchesCrlsBeforeVerification() {
+        // given
+        final X509Certificate parent = mock(X509Certificate.class);
+        sut.add(certificate);
+        when(certificateParser.getPathToCrlDistributionPoint(certificate)).thenReturn(Optional.of(CRL_PATH));
+        when(certificateParser.getPathToIssuerCertificate(certificate)).thenReturn(PARENT_PATH);
+        when(connector.tryGetBytes(PARENT_PATH, HttpValidators.NONE)).thenReturn(NOT_EMPTY_RESPONSE);
+        when(certificateParser.toX509(NOT_EMPTY_CERT)).thenReturn(parent);
+
+        try (var utilsMockStatic = mockStatic(X509CertificateUtils.class)) {
+            utilsMockStatic.when(() -> X509CertificateUtils.isSelfSigned(parent)).thenReturn(true);
+
+            // when
+            sut.verifyChains();
+        }
+
+        // then
+        final InOrder inOrder = inOrder(crlProvider, diceAliasChainVerifier);
+        inOrder.verify(crlProvider).prefetch(CRL_PATH);
+        inOrder.verify(diceAliasChainVerifier).verifyChain(any());
+    }
 }
@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
+import com.intel.bkp.verifier.model.TrustAnchor;
 import com.intel.bkp.verifier.model.TrustedRootHash;
 import com.intel.bkp.verifier.x509.X509CertificateChainVerifier;
 import com.intel.bkp.verifier.x509.X509CertificateExtendedKeyUsageVerifier;
@@ -90,6 +91,7 @@ class DiceChainVerifierBaseTest {
     private static final String KEY_PURPOSE = KEY_PURPOSE_CODE_SIGNING;
     private static final byte[] DICE_ROOT_CERT = new byte[]{7, 8};
     private static final String DICE_ROOT_HASH = DigestUtils.sha256Hex(DICE_ROOT_CERT);
+    private static final TrustAnchor DICE_ROOT_ANCHOR = TrustAnchor.from(DICE_ROOT_HASH);
     private static final Set<String> DICE_EXTENSION_OIDS = Set.of(TCG_DICE_TCB_INFO.getOid(),
         TCG_DICE_MULTI_TCB_INFO.getOid(), TCG_DICE_UEID.getOid());
 
@@ -239,8 +241,8 @@ class DiceChainVerifierBaseTest {
     }
 
     private void mockRootHashVerification(boolean verificationPassed) {
-        when(trustedRootHash.getDice()).thenReturn(DICE_ROOT_HASH);
-        when(rootHashVerifier.verifyRootHash(certificate, DICE_ROOT_HASH)).thenReturn(verificationPassed);
+        when(trustedRootHash.getDiceAnchor()).thenReturn(DICE_ROOT_ANCHOR);
+        when(rootHashVerifier.verifyRootHash(certificate, DICE_ROOT_ANCHOR)).thenReturn(verificationPassed);
     }
 
     private void mockCrlVerification(boolean verificationPassed) {
@@ -36,7 +36,10 @@ package com.intel.bkp.verifier.service.certificate;
 import com.intel.bkp.ext.crypto.exceptions.X509CrlParsingException;
 import com.intel.bkp.ext.crypto.x509.X509CrlParser;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
 import com.intel.bkp.verifier.exceptions.X509ParsingException;
+import com.intel.bkp.verifier.model.CrlCacheConfig;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -46,11 +49,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509CRL;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +73,9 @@ class DistributionPointCrlProviderTest {
     @Mock
     private DistributionPointConnector connector;
 
+    @Spy
+    private CrlCache crlCache = new CrlCache(new CrlCacheConfig(0, false, 300));
+
     @InjectMocks
     private DistributionPointCrlProvider sut;
 
@@ -103,8 +112,55 @@ class DistributionPointCrlProviderTest {
         Assertions.assertThrows(X509ParsingException.class, () -> sut.getCrl(URL));
     }
 
+    @Test
+    void getCrl_Prefetched_DownloadsOnce() {
+        // given
+        sut = new DistributionPointCrlProvider(connector, crlCache, () -> Runnable::run);
+        mockDistributionPointConnector();
+        mockParsingSuccess();
+        sut.prefetch(URL);
+
+        // when
+        final X509CRL result = sut.getCrl(URL);
+
+        // then
+        Assertions.assertEquals(crl, result);
+        verify(connector).getBytes(URL, HttpValidators.NONE);
+    }
+
+    @Test
+    void getCrl_PrefetchFailed_Throws() {
+        // given
+        sut = new DistributionPointCrlProvider(connector, crlCache, () -> Runnable::run);
+        mockDistributionPointConnector();
+        mockParsingFailure();
+        sut.prefetch(URL);
+
+        // when
+        Assertions.assertThrows(X509ParsingException.class, () -> sut.getCrl(URL));
+    }
+
+    @Test
+    void getCrl_PrefetchRejected_DownloadsOnce() {
+        // given
+        sut = new DistributionPointCrlProvider(connector, crlCache, () -> command -> {
+            throw new RejectedExecutionException();
+        });
+        mockDistributionPointConnector();
+        mockParsingSuccess();
+        sut.prefetch(URL);
+
+        // when
+        final X509CRL result = sut.getCrl(URL);
+
+        // then
+        Assertions.assertEquals(crl, result);
+        verify(connector).getBytes(URL, HttpValidators.NONE);
+    }
+
     private void mockDistributionPointConnector() {
-        when(connector.getBytes(URL)).thenReturn(MOCKED_CRL_BYTES);
+        when(connector.getBytes(URL, HttpValidators.NONE))
+            .thenReturn(DistributionPointResponse.modified(MOCKED_CRL_BYTES));
     }
 
     @SneakyThrows
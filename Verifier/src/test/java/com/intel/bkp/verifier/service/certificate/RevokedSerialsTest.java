@@ -0,0 +1,84 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedSerialsTest {
+
+    private static final BigInteger REVOKED_SERIAL_NUMBER = BigInteger.valueOf(1234);
+    private static final BigInteger OTHER_SERIAL_NUMBER = BigInteger.valueOf(5678);
+
+    @Mock
+    private X509CRL crl;
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void contains_RevokedSerial_ReturnsTrue() {
+        // given
+        final X509CRLEntry crlEntry = mock(X509CRLEntry.class);
+        when(crl.getRevokedCertificates()).thenReturn((Set) Set.of(crlEntry));
+        when(crlEntry.getSerialNumber()).thenReturn(REVOKED_SERIAL_NUMBER);
+        final RevokedSerials sut = RevokedSerials.from(crl);
+
+        // when-then
+        Assertions.assertTrue(sut.contains(new BigInteger(REVOKED_SERIAL_NUMBER.toByteArray())));
+        Assertions.assertFalse(sut.contains(OTHER_SERIAL_NUMBER));
+        Assertions.assertEquals(1, sut.size());
+    }
+
+    @Test
+    void contains_CrlWithoutRevokedCertificates_ReturnsFalse() {
+        // given
+        when(crl.getRevokedCertificates()).thenReturn(null);
+        final RevokedSerials sut = RevokedSerials.from(crl);
+
+        // when-then
+        Assertions.assertFalse(sut.contains(REVOKED_SERIAL_NUMBER));
+        Assertions.assertEquals(0, sut.size());
+    }
+}
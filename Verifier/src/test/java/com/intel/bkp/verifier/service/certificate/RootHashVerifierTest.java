@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
+import com.intel.bkp.verifier.model.TrustAnchor;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
+import java.util.Locale;
 
 import static org.mockito.Mockito.when;
 
@@ -89,4 +91,16 @@ class RootHashVerifierTest {
         // then
         Assertions.assertFalse(result);
     }
+
+    @Test
+    void verifyRootHash_WithMatchingHashInLowerCase_ReturnsTrue() throws CertificateEncodingException {
+        // given
+        when(certificate.getEncoded()).thenReturn(CERT_ENCODED);
+
+        // when
+        final boolean result = sut.verifyRootHash(certificate, TrustAnchor.from(VALID_HASH.toLowerCase(Locale.ROOT)));
+
+        // then
+        Assertions.assertTrue(result);
+    }
 }
@@ -35,9 +35,13 @@ package com.intel.bkp.verifier.service.certificate;
 
 import com.intel.bkp.ext.core.certificate.X509CertificateUtils;
 import com.intel.bkp.ext.core.manufacturing.model.PufType;
+import com.intel.bkp.verifier.dp.DistributionPointClients;
 import com.intel.bkp.verifier.dp.DistributionPointConnector;
+import com.intel.bkp.verifier.dp.DistributionPointResponse;
+import com.intel.bkp.verifier.dp.HttpValidators;
 import com.intel.bkp.verifier.dp.ProxyCallbackFactory;
 import com.intel.bkp.verifier.interfaces.IProxyCallback;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
 import com.intel.bkp.verifier.model.DistributionPoint;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.Proxy;
@@ -53,6 +57,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -106,6 +111,9 @@ class S10AttestationRevocationServiceTest {
     @Mock
     private DistributionPointAddressProvider addressProvider;
 
+    @Spy
+    private CertificateCache certificateCache = new CertificateCache(new CertificateCacheConfig());
+
     @InjectMocks
     private S10AttestationRevocationService sut;
 
@@ -138,6 +146,7 @@ class S10AttestationRevocationServiceTest {
         final var proxyCallback = mock(IProxyCallback.class);
 
         when(appContext.getLibConfig()).thenReturn(libConfig);
+        when(appContext.getDistributionPointClients()).thenReturn(new DistributionPointClients());
         when(libConfig.getDistributionPoint()).thenReturn(dp);
         when(dp.getPathCer()).thenReturn(certPath);
         when(dp.getTrustedRootHash()).thenReturn(trustedRootHash);
@@ -183,17 +192,20 @@ class S10AttestationRevocationServiceTest {
         final S10Params expectedParams = S10Params.from(deviceId, pufType);
         when(addressProvider.getAttestationCertFilename(expectedParams)).thenReturn(ATTESTATION_CERT_URL);
 
-        when(connector.getBytes(ATTESTATION_CERT_URL)).thenReturn(ATTESTATION_CERT_BYTES);
+        when(connector.getBytes(ATTESTATION_CERT_URL, HttpValidators.NONE))
+            .thenReturn(DistributionPointResponse.modified(ATTESTATION_CERT_BYTES));
         when(certificateParser.toX509(ATTESTATION_CERT_BYTES)).thenReturn(attestationCert);
         when(X509CertificateUtils.isSelfSigned(attestationCert)).thenReturn(false);
         when(certificateParser.getPathToIssuerCertificate(attestationCert)).thenReturn(PARENT_CERT_URL);
 
-        when(connector.getBytes(PARENT_CERT_URL)).thenReturn(PARENT_CERT_BYTES);
+        when(connector.getBytes(PARENT_CERT_URL, HttpValidators.NONE))
+            .thenReturn(DistributionPointResponse.modified(PARENT_CERT_BYTES));
         when(certificateParser.toX509(PARENT_CERT_BYTES)).thenReturn(parentCert);
         when(X509CertificateUtils.isSelfSigned(parentCert)).thenReturn(false);
         when(certificateParser.getPathToIssuerCertificate(parentCert)).thenReturn(ROOT_CERT_URL);
 
-        when(connector.getBytes(ROOT_CERT_URL)).thenReturn(ROOT_CERT_BYTES);
+        when(connector.getBytes(ROOT_CERT_URL, HttpValidators.NONE))
+            .thenReturn(DistributionPointResponse.modified(ROOT_CERT_BYTES));
         when(certificateParser.toX509(ROOT_CERT_BYTES)).thenReturn(rootCert);
         when(X509CertificateUtils.isSelfSigned(rootCert)).thenReturn(true);
     }
@@ -35,6 +35,7 @@ package com.intel.bkp.verifier.service.certificate;
 
 import com.intel.bkp.ext.core.crl.CrlSerialNumberBuilder;
 import com.intel.bkp.verifier.exceptions.SigmaException;
+import com.intel.bkp.verifier.model.TrustAnchor;
 import com.intel.bkp.verifier.model.TrustedRootHash;
 import com.intel.bkp.verifier.x509.X509CertificateChainVerifier;
 import com.intel.bkp.verifier.x509.X509CertificateExtendedKeyUsageVerifier;
@@ -62,6 +63,7 @@ class S10ChainVerifierTest {
 
     private static final byte[] S10_ROOT_CERT = new byte[]{5, 6};
     private static final String S10_ROOT_HASH = DigestUtils.sha256Hex(S10_ROOT_CERT);
+    private static final TrustAnchor S10_ROOT_ANCHOR = TrustAnchor.from(S10_ROOT_HASH);
 
     @Mock
     private X509Certificate x509AttestationCert;
@@ -194,8 +196,8 @@ class S10ChainVerifierTest {
     }
 
     private void mockRootHashVerification(boolean verificationPassed) {
-        when(trustedRootHash.getS10()).thenReturn(S10_ROOT_HASH);
-        when(rootHashVerifier.verifyRootHash(x509RootCert, S10_ROOT_HASH)).thenReturn(verificationPassed);
+        when(trustedRootHash.getS10Anchor()).thenReturn(S10_ROOT_ANCHOR);
+        when(rootHashVerifier.verifyRootHash(x509RootCert, S10_ROOT_ANCHOR)).thenReturn(verificationPassed);
     }
 
     private void mockCrlVerification(boolean verificationPassed) {
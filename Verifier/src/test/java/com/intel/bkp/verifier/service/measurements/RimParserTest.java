@@ -72,6 +72,26 @@ class RimParserTest {
         return new String(Utils.readFromResources(TEST_FOLDER, filename));
     }
 
+    @Test
+    void parse_SameRimTwice_ReturnsIndependentInstances() {
+        // given
+        final Rim first = sut.parse(refMeasurementsAgilex);
+
+        // when
+        first.getRimRecords().getRecords().clear();
+        final Rim second = sut.parse(refMeasurementsAgilex);
+
+        // then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(8, second.getRimRecords().getRecords().size());
+    }
+
+    @Test
+    void parse_EmptyRim_Throws() {
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.parse(""));
+    }
+
     @Test
     void parse_Stratix10() {
         // when
@@ -36,6 +36,7 @@ package com.intel.bkp.verifier.transport.hps;
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.transport.tcp.TcpClient;
 import com.intel.bkp.verifier.transport.tcp.TcpConfig;
+import com.intel.bkp.verifier.transport.tcp.TcpConnectionPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,39 +48,46 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class HpsTransportImplTest {
 
+    private static final String CONNECTION_CONFIG = "host:127.0.0.1; port:80";
     private static final byte[] COMMAND = new byte[]{1, 2, 3, 4};
     private static final byte[] RESPONSE = new byte[]{1, 0, 2, 0};
 
     @Mock
     private TcpClient client;
 
+    @Mock
+    private TcpConnectionPool<TcpConfig, TcpClient> connectionPool;
+
     private HpsTransportImpl sut = new HpsTransportImpl();
 
     @BeforeEach
     public void init() {
-        sut.setClient(client);
+        sut.setConnectionPool(connectionPool);
     }
 
     @Test
     public void initialize_Success() {
         // given
-        String connectionConfig = "host:127.0.0.1; port:80";
+        mockAcquire();
 
         // when
-        sut.initialize(connectionConfig);
+        sut.initialize(CONNECTION_CONFIG);
 
         // then
-        Mockito.verify(client).initialize(ArgumentMatchers.any(TcpConfig.class));
+        Mockito.verify(connectionPool).acquire(ArgumentMatchers.any(TcpConfig.class));
     }
 
     @Test
     public void sendCommand_Success() {
         // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
         when(client.sendPacket(COMMAND)).thenReturn(RESPONSE);
 
         // when
@@ -91,20 +99,47 @@ class HpsTransportImplTest {
     }
 
     @Test
-    public void sendCommand_ThrowsException() {
+    public void sendCommand_ThrowsException_ClosesConnection() {
         // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
         doThrow(new TransportLayerException("test")).when(client).sendPacket(any());
 
         // when-then
         Assertions.assertThrows(TransportLayerException.class, () -> sut.sendCommand(COMMAND));
+        Mockito.verify(client).disconnect();
+    }
+
+    @Test
+    public void sendCommand_NotInitialized_Throws() {
+        // when-then
+        Assertions.assertThrows(TransportLayerException.class, () -> sut.sendCommand(COMMAND));
+    }
+
+    @Test
+    public void disconnect_ReleasesConnectionToPool() {
+        // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
+
+        // when
+        sut.disconnect();
+
+        // then
+        Mockito.verify(connectionPool).release(any(TcpConfig.class), Mockito.eq(client));
+        Mockito.verify(client, never()).disconnect();
     }
 
     @Test
-    public void disconnect_Success() {
+    public void disconnect_NotInitialized_DoesNothing() {
         // when
         sut.disconnect();
 
         // then
-        Mockito.verify(client).disconnect();
+        Mockito.verify(connectionPool, never()).release(any(), any());
+    }
+
+    private void mockAcquire() {
+        when(connectionPool.acquire(any(TcpConfig.class))).thenReturn(client);
     }
 }
@@ -61,6 +61,13 @@ class SystemConsoleNioClientTest {
         + "\n"
         + "tcl>\n"
         + "puts stdout \"COMMAND_RESULT = 0x10002000 0x13f5567d 0x80d02eb6\"\n"
+        + "return \"\"\n"
+        + "\n"
+        + "tcl>\n"
+        + "return \"\"\n"
+        + "\n"
+        + "tcl>\n"
+        + "puts stdout \"END_OF_SCRIPT\"\n"
         + "return \"\"";
     private static final String RESPONSE = "0x10002000 0x13f5567d 0x80d02eb6";
 
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.transport.systemconsole;
 
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import com.intel.bkp.verifier.transport.tcp.TcpConnectionPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,13 +44,16 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SystemConsoleTransportImplTest {
 
+    private static final String CONNECTION_CONFIG = "host:127.0.0.1; port:80; cableID:1";
     private static final byte[] COMMAND = new byte[]{1, 2, 3, 4};
     private static final String COMMAND_STR = "0x04030201";
     private static final byte[] RESPONSE = new byte[]{1, 0, 2, 0};
@@ -58,29 +62,33 @@ class SystemConsoleTransportImplTest {
     @Mock
     private SystemConsoleNioClient client;
 
+    @Mock
+    private TcpConnectionPool<SystemConsoleConfig, SystemConsoleNioClient> connectionPool;
+
     private SystemConsoleTransportImpl sut = new SystemConsoleTransportImpl();
 
     @BeforeEach
     public void init() {
-        sut.setClient(client);
+        sut.setConnectionPool(connectionPool);
     }
 
     @Test
     public void initialize_Success() {
         // given
-        String connectionConfig = "host:127.0.0.1; port:80; cableID:1";
+        mockAcquire();
 
         // when
-        sut.initialize(connectionConfig);
+        sut.initialize(CONNECTION_CONFIG);
 
         // then
-        Mockito.verify(client).initialize(ArgumentMatchers.any(SystemConsoleConfig.class));
-        Mockito.verify(client).sendPacket(anyString());
+        Mockito.verify(connectionPool).acquire(ArgumentMatchers.any(SystemConsoleConfig.class));
     }
 
     @Test
     public void sendCommand_Success() {
         // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
         String expectedTclCommand = new TclCommands().sendPacket(COMMAND_STR);
         when(client.sendPacket(expectedTclCommand)).thenReturn(RESPONSE_STR);
 
@@ -93,20 +101,32 @@ class SystemConsoleTransportImplTest {
     }
 
     @Test
-    public void sendCommand_ThrowsException() {
+    public void sendCommand_ThrowsException_ClosesConnection() {
         // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
         doThrow(new TransportLayerException("test")).when(client).sendPacket(anyString());
 
         // when-then
         Assertions.assertThrows(TransportLayerException.class, () -> sut.sendCommand(COMMAND));
+        Mockito.verify(client).disconnect();
     }
 
     @Test
-    public void disconnect_Success() {
+    public void disconnect_ReleasesConnectionToPool() {
+        // given
+        mockAcquire();
+        sut.initialize(CONNECTION_CONFIG);
+
         // when
         sut.disconnect();
 
         // then
-        Mockito.verify(client).disconnect();
+        Mockito.verify(connectionPool).release(any(SystemConsoleConfig.class), Mockito.eq(client));
+        Mockito.verify(client, never()).disconnect();
+    }
+
+    private void mockAcquire() {
+        when(connectionPool.acquire(any(SystemConsoleConfig.class))).thenReturn(client);
     }
 }
@@ -52,6 +52,7 @@ class TclCommandsTest {
         Assertions.assertNotNull(result);
         Assertions.assertTrue(result.contains(String.valueOf(transportId)));
         Assertions.assertFalse(result.contains(TclCommands.TRANSPORT_ID));
+        Assertions.assertFalse(result.contains(TclCommands.END_OF_SCRIPT));
     }
 
     @Test
@@ -66,5 +67,6 @@ class TclCommandsTest {
         Assertions.assertNotNull(result);
         Assertions.assertTrue(result.contains(command));
         Assertions.assertFalse(result.contains(TclCommands.COMMAND));
+        Assertions.assertFalse(result.contains(TclCommands.END_OF_SCRIPT));
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.systemconsole;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class TclScriptResponseFramingTest {
+
+    private static final String OUTPUT = "tcl>\n"
+        + "puts stdout \"COMMAND_RESULT = 0x10002000\"\n"
+        + "return \"\"\n";
+    private static final String END_OF_SCRIPT_OUTPUT = "tcl>\n"
+        + "puts stdout \"END_OF_SCRIPT\"\n"
+        + "return \"\"";
+
+    private final TclScriptResponseFraming sut = new TclScriptResponseFraming();
+
+    @Test
+    void isComplete_EchoedScriptWithoutOutputOfMarker_ReturnsFalse() {
+        // given
+        final byte[] received = (new TclCommands().sendPacket("0x10000012") + OUTPUT)
+            .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final boolean result = sut.isComplete(received, received.length);
+
+        // then
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    void isComplete_EchoedScriptWithOutputOfMarker_ReturnsTrue() {
+        // given
+        final byte[] received = (new TclCommands().sendPacket("0x10000012") + OUTPUT + END_OF_SCRIPT_OUTPUT)
+            .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final boolean result = sut.isComplete(received, received.length);
+
+        // then
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    void isComplete_MarkerBeyondReceivedLength_ReturnsFalse() {
+        // given
+        final byte[] received = (OUTPUT + END_OF_SCRIPT_OUTPUT).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final boolean result = sut.isComplete(received, OUTPUT.length());
+
+        // then
+        Assertions.assertFalse(result);
+    }
+}
@@ -33,6 +33,8 @@
 
 package com.intel.bkp.verifier.transport.tcp;
 
+import com.intel.bkp.verifier.command.header.CommandHeader;
+import com.intel.bkp.verifier.command.header.CommandHeaderManager;
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -84,6 +86,37 @@ class TcpClientTest {
         Assertions.assertEquals(responseLength, result.length);
     }
 
+    @Test
+    void sendPacket_ResponseReceivedInChunks_ReadsUntilFullResponse() throws IOException {
+        // given
+        sut.setSocketChannel(socketChannel);
+        final byte[] header = CommandHeaderManager.buildForFw(new CommandHeader(0, 2, 0, 1));
+        final byte[] arguments = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+        when(socketChannel.read(ArgumentMatchers.any(ByteBuffer.class)))
+            .thenAnswer(invocation -> putInBuffer(invocation.getArgument(0), header))
+            .thenAnswer(invocation -> putInBuffer(invocation.getArgument(0), arguments));
+
+        // when
+        byte[] result = sut.sendPacket(COMMAND);
+
+        // then
+        Assertions.assertEquals(header.length + arguments.length, result.length);
+        Mockito.verify(socketChannel, Mockito.times(2)).read(ArgumentMatchers.any(ByteBuffer.class));
+    }
+
+    @Test
+    void sendPacket_ConnectionClosedBeforeFullResponse_Throws() throws IOException {
+        // given
+        sut.setSocketChannel(socketChannel);
+        final byte[] header = CommandHeaderManager.buildForFw(new CommandHeader(0, 2, 0, 1));
+        when(socketChannel.read(ArgumentMatchers.any(ByteBuffer.class)))
+            .thenAnswer(invocation -> putInBuffer(invocation.getArgument(0), header))
+            .thenReturn(-1);
+
+        // when-then
+        Assertions.assertThrows(TransportLayerException.class, () -> sut.sendPacket(COMMAND));
+    }
+
     @Test
     void sendPacket_WithTooLargeBuffer_Throws() throws IOException {
         // given
@@ -122,4 +155,9 @@ class TcpClientTest {
         // when-then
         Assertions.assertDoesNotThrow(() -> sut.disconnect());
     }
+
+    private static int putInBuffer(ByteBuffer buffer, byte[] bytes) {
+        buffer.put(bytes);
+        return bytes.length;
+    }
 }
@@ -49,6 +49,46 @@ class TcpConfigTest {
         //then
         Assertions.assertEquals(80, config.getPort());
         Assertions.assertEquals("127.0.0.1", config.getHost());
+        Assertions.assertEquals(TcpConfig.DEFAULT_RESPONSE_TIMEOUT, config.getResponseTimeout());
+    }
+
+    @Test
+    void tcpConfig_correctTransportIdWithTimeout_Success() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; timeout:5000";
+
+        //when
+        TcpConfig config = new TcpConfig(transportId);
+
+        //then
+        Assertions.assertEquals(5000, config.getResponseTimeout());
+    }
+
+    @Test
+    void tcpConfig_incorrectTransportIdWithTimeoutNotANumber_Fail() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; timeout:never";
+
+        //when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
+    }
+
+    @Test
+    void tcpConfig_incorrectTransportIdWithZeroTimeout_Fail() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; timeout:0";
+
+        //when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
+    }
+
+    @Test
+    void tcpConfig_incorrectTransportIdWithNegativeTimeout_Fail() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; timeout:-1";
+
+        //when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
     }
 
     @Test
@@ -0,0 +1,268 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.tcp;
+
+import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TcpConnectionPoolTest {
+
+    private static final TcpConfig CONFIG = new TcpConfig("host:127.0.0.1; port:80");
+    private static final TcpConfig OTHER_CONFIG = new TcpConfig("host:127.0.0.1; port:81");
+
+    @Mock
+    private Function<TcpConfig, TcpClient> connector;
+
+    @Mock
+    private Consumer<TcpClient> healthProbe;
+
+    @Mock
+    private TcpClient client;
+
+    @Mock
+    private TcpClient otherClient;
+
+    private TcpConnectionPool<TcpConfig, TcpClient> sut;
+
+    @AfterEach
+    void cleanUp() {
+        sut.close();
+    }
+
+    @Test
+    void acquire_NoIdleConnection_OpensNew() {
+        // given
+        prepareSut(60000, 60000);
+        when(connector.apply(CONFIG)).thenReturn(client);
+
+        // when
+        final TcpClient result = sut.acquire(CONFIG);
+
+        // then
+        Assertions.assertEquals(client, result);
+    }
+
+    @Test
+    void acquire_AfterRelease_ReusesConnectionWithoutProbe() {
+        // given
+        prepareSut(60000, 60000);
+        when(client.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(new TcpConfig("host:127.0.0.1; port:80"));
+
+        // then
+        Assertions.assertEquals(client, result);
+        Mockito.verify(connector, never()).apply(any());
+        Mockito.verify(healthProbe, never()).accept(any());
+    }
+
+    @Test
+    void acquire_IdleConnectionForOtherConfig_OpensNew() {
+        // given
+        prepareSut(60000, 60000);
+        when(client.isConnected()).thenReturn(true);
+        when(connector.apply(OTHER_CONFIG)).thenReturn(otherClient);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(OTHER_CONFIG);
+
+        // then
+        Assertions.assertEquals(otherClient, result);
+    }
+
+    @Test
+    void acquire_ValidationIntervalPassed_ProbesConnection() {
+        // given
+        prepareSut(60000, 0);
+        when(client.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(CONFIG);
+
+        // then
+        Assertions.assertEquals(client, result);
+        Mockito.verify(healthProbe).accept(client);
+    }
+
+    @Test
+    void acquire_ProbeFails_Reconnects() {
+        // given
+        prepareSut(60000, 0);
+        when(client.isConnected()).thenReturn(true);
+        doThrow(new TransportLayerException("test")).when(healthProbe).accept(client);
+        when(connector.apply(CONFIG)).thenReturn(otherClient);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(CONFIG);
+
+        // then
+        Assertions.assertEquals(otherClient, result);
+        Mockito.verify(client).disconnect();
+    }
+
+    @Test
+    void acquire_IdleTimeExceeded_EvictsAndReconnects() {
+        // given
+        prepareSut(0, 60000);
+        when(client.isConnected()).thenReturn(true);
+        when(connector.apply(CONFIG)).thenReturn(otherClient);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(CONFIG);
+
+        // then
+        Assertions.assertEquals(otherClient, result);
+        Mockito.verify(client).disconnect();
+    }
+
+    @Test
+    void release_ClosedConnection_IsDropped() {
+        // given
+        prepareSut(60000, 60000);
+        when(client.isConnected()).thenReturn(false);
+        when(connector.apply(CONFIG)).thenReturn(otherClient);
+        sut.release(CONFIG, client);
+
+        // when
+        final TcpClient result = sut.acquire(CONFIG);
+
+        // then
+        Assertions.assertEquals(otherClient, result);
+    }
+
+    @Test
+    void release_MaxIdlePerKeyReached_ClosesConnection() {
+        // given
+        prepareSut(60000, 60000, 1);
+        when(client.isConnected()).thenReturn(true);
+        when(otherClient.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        sut.release(CONFIG, otherClient);
+
+        // then
+        Mockito.verify(otherClient).disconnect();
+        Mockito.verify(client, never()).disconnect();
+    }
+
+    @Test
+    void release_MaxIdlePerKeyReachedForOtherConfig_KeepsConnection() {
+        // given
+        prepareSut(60000, 60000, 1);
+        when(client.isConnected()).thenReturn(true);
+        when(otherClient.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        sut.release(OTHER_CONFIG, otherClient);
+
+        // then
+        Assertions.assertEquals(otherClient, sut.acquire(OTHER_CONFIG));
+        Mockito.verify(otherClient, never()).disconnect();
+    }
+
+    @Test
+    void release_StartsBackgroundSweep() {
+        // given
+        prepareSut(60000, 60000);
+        when(client.isConnected()).thenReturn(true);
+
+        // when
+        sut.release(CONFIG, client);
+
+        // then
+        Assertions.assertTrue(sut.isSweeping());
+    }
+
+    @Test
+    void sweep_IdleTimeExceeded_DisconnectsAndStopsSweep() {
+        // given
+        prepareSut(0, 60000);
+        when(client.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        sut.sweep();
+
+        // then
+        Mockito.verify(client).disconnect();
+        Assertions.assertFalse(sut.isSweeping());
+    }
+
+    @Test
+    void close_DisconnectsIdleConnections() {
+        // given
+        prepareSut(60000, 60000);
+        when(client.isConnected()).thenReturn(true);
+        sut.release(CONFIG, client);
+
+        // when
+        sut.close();
+
+        // then
+        Mockito.verify(client, times(1)).disconnect();
+        Assertions.assertFalse(sut.isSweeping());
+    }
+
+    private void prepareSut(long maxIdleTime, long validationInterval) {
+        prepareSut(maxIdleTime, validationInterval, TcpConnectionPool.DEFAULT_MAX_IDLE_PER_KEY);
+    }
+
+    private void prepareSut(long maxIdleTime, long validationInterval, int maxIdlePerKey) {
+        sut = new TcpConnectionPool<>(connector, healthProbe, maxIdleTime, validationInterval, maxIdlePerKey);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.utils;
+
+import com.intel.bkp.verifier.model.ConcurrencyConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoundedExecutorTest {
+
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    @Test
+    void execute_BelowLimit_SubmitsToDelegate() {
+        // given
+        final BoundedExecutor sut = new BoundedExecutor(submitted::add, 2);
+
+        // when
+        sut.execute(() -> { });
+        sut.execute(() -> { });
+
+        // then
+        Assertions.assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void execute_AboveLimit_QueuesUntilTaskCompletes() {
+        // given
+        final BoundedExecutor sut = new BoundedExecutor(submitted::add, 1);
+        final AtomicInteger executed = new AtomicInteger();
+        sut.execute(executed::incrementAndGet);
+
+        // when
+        sut.execute(executed::incrementAndGet);
+
+        // then
+        Assertions.assertEquals(1, submitted.size());
+
+        // when
+        submitted.get(0).run();
+
+        // then
+        Assertions.assertEquals(2, submitted.size());
+        submitted.get(1).run();
+        Assertions.assertEquals(2, executed.get());
+    }
+
+    @Test
+    void execute_TaskThrows_StartsNextTask() {
+        // given
+        final BoundedExecutor sut = new BoundedExecutor(submitted::add, 1);
+        sut.execute(() -> {
+            throw new IllegalStateException();
+        });
+        sut.execute(() -> { });
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> submitted.get(0).run());
+
+        // then
+        Assertions.assertEquals(2, submitted.size());
+    }
+
+    @Test
+    void execute_Unlimited_SubmitsAllToDelegate() {
+        // given
+        final BoundedExecutor sut = new BoundedExecutor(submitted::add, ConcurrencyConfig.UNLIMITED);
+
+        // when
+        sut.execute(() -> { });
+        sut.execute(() -> { });
+        sut.execute(() -> { });
+
+        // then
+        Assertions.assertEquals(3, submitted.size());
+    }
+
+    @Test
+    void constructor_NegativeLimit_Throws() {
+        // when-then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedExecutor(submitted::add, -1));
+    }
+}
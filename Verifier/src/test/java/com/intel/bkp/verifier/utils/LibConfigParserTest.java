@@ -34,6 +34,9 @@
 package com.intel.bkp.verifier.utils;
 
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.model.CertificateCacheConfig;
+import com.intel.bkp.verifier.model.CrlCacheConfig;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.TransportLayerType;
 import org.junit.jupiter.api.Assertions;
@@ -83,6 +86,8 @@ class LibConfigParserTest {
         Assertions.assertEquals(TransportLayerType.HPS, config.getTransportLayerType());
         Assertions.assertTrue(config.getAttestationCertificateFlow().isOnlyEfuseUds());
         Assertions.assertTrue(config.getDatabaseConfiguration().isInternalDatabase());
+        Assertions.assertEquals(2, config.getDatabaseConfiguration().getReadConnections());
+        Assertions.assertEquals(1000, config.getDatabaseConfiguration().getBusyTimeoutMillis());
 
         Assertions.assertEquals("path/to/single-rooted-chain",
             config.getVerifierKeyParams().getVerifierRootQkyChain().getSingleChainPath());
@@ -96,6 +101,16 @@ class LibConfigParserTest {
             distributionPoint.getTrustedRootHash().getDice());
         Assertions.assertEquals("proxy.intel.com", distributionPoint.getProxy().getHost());
         Assertions.assertEquals(912, distributionPoint.getProxy().getPort());
+        Assertions.assertEquals(100, distributionPoint.getCertificateCache().getMemorySize());
+        Assertions.assertEquals(3600, distributionPoint.getCertificateCache().getTtlSeconds());
+        Assertions.assertEquals(60, distributionPoint.getCertificateCache().getNegativeTtlSeconds());
+        Assertions.assertEquals(512, distributionPoint.getCertificateCache().getParseCacheSize());
+        Assertions.assertEquals("/tmp/verifier-cert-cache", distributionPoint.getCertificateCache().getDirectory());
+        Assertions.assertEquals(600, distributionPoint.getCrlCache().getGracePeriodSeconds());
+        Assertions.assertFalse(distributionPoint.getCrlCache().isBackgroundRefresh());
+        Assertions.assertEquals(120, distributionPoint.getCrlCache().getRevalidationTtlSeconds());
+        Assertions.assertEquals("/tmp/verifier-dp-mirror", distributionPoint.getMirrorPath());
+        Assertions.assertEquals("/etc/verifier/trust-store", distributionPoint.getTrustStorePath());
 
         var securityProviderParams = config.getProviderParams();
         Assertions.assertNotNull(securityProviderParams);
@@ -149,6 +164,24 @@ class LibConfigParserTest {
         var distributionPoint = config.getDistributionPoint();
         Assertions.assertNull(distributionPoint.getProxy().getHost());
         Assertions.assertNull(distributionPoint.getProxy().getPort());
+        Assertions.assertEquals(CertificateCacheConfig.DEFAULT_MEMORY_SIZE,
+            distributionPoint.getCertificateCache().getMemorySize());
+        Assertions.assertEquals("", distributionPoint.getCertificateCache().getDirectory());
+        Assertions.assertEquals(CertificateCacheConfig.DEFAULT_NEGATIVE_TTL_SECONDS,
+            distributionPoint.getCertificateCache().getNegativeTtlSeconds());
+        Assertions.assertEquals(CertificateCacheConfig.DEFAULT_PARSE_CACHE_SIZE,
+            distributionPoint.getCertificateCache().getParseCacheSize());
+        Assertions.assertEquals(CrlCacheConfig.DEFAULT_GRACE_PERIOD_SECONDS,
+            distributionPoint.getCrlCache().getGracePeriodSeconds());
+        Assertions.assertTrue(distributionPoint.getCrlCache().isBackgroundRefresh());
+        Assertions.assertEquals(CrlCacheConfig.DEFAULT_REVALIDATION_TTL_SECONDS,
+            distributionPoint.getCrlCache().getRevalidationTtlSeconds());
+        Assertions.assertEquals("", distributionPoint.getMirrorPath());
+        Assertions.assertEquals("", distributionPoint.getTrustStorePath());
+        Assertions.assertEquals(DatabaseConfiguration.DEFAULT_READ_CONNECTIONS,
+            config.getDatabaseConfiguration().getReadConnections());
+        Assertions.assertEquals(DatabaseConfiguration.DEFAULT_BUSY_TIMEOUT_MILLIS,
+            config.getDatabaseConfiguration().getBusyTimeoutMillis());
     }
 
     @Test
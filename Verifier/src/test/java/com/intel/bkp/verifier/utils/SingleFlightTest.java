@@ -0,0 +1,111 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SingleFlightTest {
+
+    private static final String KEY = "key";
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final SingleFlight<String, String> sut = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_LoadsOnce() throws Exception {
+        // given
+        final AtomicReference<Thread> follower = new AtomicReference<>();
+        final AtomicReference<CompletableFuture<String>> followerResult = new AtomicReference<>();
+
+        // when
+        final String result = sut.execute(KEY, () -> {
+            loads.incrementAndGet();
+            final CompletableFuture<String> future = new CompletableFuture<>();
+            final Thread thread = new Thread(() -> future.complete(sut.execute(KEY, this::load)));
+            follower.set(thread);
+            followerResult.set(future);
+            thread.start();
+            awaitWaiting(thread);
+            return "value";
+        });
+
+        // then
+        Assertions.assertEquals("value", result);
+        Assertions.assertEquals("value", followerResult.get().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void execute_LoaderThrows_RethrowsAndAllowsRetry() {
+        // given
+        final IllegalStateException exception = new IllegalStateException();
+
+        // when-then
+        Assertions.assertSame(exception, Assertions.assertThrows(IllegalStateException.class,
+            () -> sut.execute(KEY, () -> {
+                throw exception;
+            })));
+        Assertions.assertEquals("value", sut.execute(KEY, this::load));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void execute_SequentialCalls_LoadEachTime() {
+        // when
+        sut.execute(KEY, this::load);
+        sut.execute(KEY, this::load);
+
+        // then
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return "value";
+    }
+
+    private static void awaitWaiting(Thread thread) {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.x509;
+
+import com.intel.bkp.verifier.Utils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.util.Optional;
+
+import static com.intel.bkp.verifier.x509.SignatureVerificationCache.MAX_ENTRIES;
+
+class SignatureVerificationCacheTest {
+
+    private static final String TEST_FOLDER = "certs/";
+
+    // https://tsci.intel.com/content/IPCS/certs/IPCSSigningCA.cer
+    private static final String CHILD_CERT_FILENAME = "IPCSSigningCA.cer";
+    // https://tsci.intel.com/content/IPCS/certs/IPCS.cer
+    private static final String PARENT_CERT_FILENAME = "IPCS.cer";
+
+    private static final X509CertificateParser X509_PARSER = new X509CertificateParser();
+
+    private static X509Certificate child;
+    private static X509Certificate parent;
+
+    private final SignatureVerificationCache sut = new SignatureVerificationCache();
+
+    @BeforeAll
+    static void init() throws Exception {
+        child = X509_PARSER.toX509(Utils.readFromResources(TEST_FOLDER, CHILD_CERT_FILENAME));
+        parent = X509_PARSER.toX509(Utils.readFromResources(TEST_FOLDER, PARENT_CERT_FILENAME));
+    }
+
+    @Test
+    void key_DifferentPublicKey_ReturnsDifferentKey() {
+        // when
+        final String key = sut.key(child, parent.getPublicKey()).orElseThrow();
+        final String otherKey = sut.key(child, child.getPublicKey()).orElseThrow();
+
+        // then
+        Assertions.assertNotEquals(key, otherKey);
+    }
+
+    @Test
+    void get_NotPut_ReturnsEmpty() {
+        // given
+        final String key = sut.key(child, parent.getPublicKey()).orElseThrow();
+
+        // when-then
+        Assertions.assertEquals(Optional.empty(), sut.get(key));
+    }
+
+    @Test
+    void get_PutInvalid_ReturnsFalse() {
+        // given
+        final String key = sut.key(parent, child.getPublicKey()).orElseThrow();
+        sut.put(key, false);
+
+        // when-then
+        Assertions.assertEquals(Optional.of(false), sut.get(key));
+    }
+
+    @Test
+    void put_MoreThanMaxEntries_EvictsLeastRecentlyUsed() {
+        // given
+        sut.put("first", true);
+
+        // when
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            sut.put("key" + i, true);
+        }
+
+        // then
+        Assertions.assertEquals(MAX_ENTRIES, sut.size());
+        Assertions.assertEquals(Optional.empty(), sut.get("first"));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2021 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.x509;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedLinkCacheTest {
+
+    private static final String CONTEXT = "context";
+    private static final Date FUTURE = Date.from(Instant.now().plus(1, ChronoUnit.DAYS));
+    private static final Date PAST = Date.from(Instant.now().minus(1, ChronoUnit.DAYS));
+
+    @Mock
+    private X509Certificate child;
+
+    @Mock
+    private X509Certificate parent;
+
+    private final VerifiedLinkCache sut = new VerifiedLinkCache();
+
+    @Test
+    void linkKey_CertificateNotEncodable_ReturnsEmpty() throws Exception {
+        // given
+        when(child.getEncoded()).thenReturn(null);
+
+        // when-then
+        Assertions.assertTrue(sut.linkKey(child, parent, CONTEXT).isEmpty());
+    }
+
+    @Test
+    void linkKey_DifferentContext_ReturnsDifferentKeys() throws Exception {
+        // given
+        mockEncoded();
+
+        // when
+        final String key = sut.linkKey(child, parent, CONTEXT).orElseThrow();
+        final String otherKey = sut.linkKey(child, parent, "other").orElseThrow();
+
+        // then
+        Assertions.assertNotEquals(key, otherKey);
+    }
+
+    @Test
+    void isVerified_NotPut_ReturnsFalse() throws Exception {
+        // given
+        mockEncoded();
+        final String key = sut.linkKey(child, parent, CONTEXT).orElseThrow();
+
+        // when-then
+        Assertions.assertFalse(sut.isVerified(key));
+    }
+
+    @Test
+    void isVerified_PutWithValidCertificates_ReturnsTrue() throws Exception {
+        // given
+        mockEncoded();
+        when(child.getNotAfter()).thenReturn(FUTURE);
+        when(parent.getNotAfter()).thenReturn(FUTURE);
+        final String key = sut.linkKey(child, parent, CONTEXT).orElseThrow();
+        sut.putLink(key, child, parent);
+
+        // when-then
+        Assertions.assertTrue(sut.isVerified(key));
+    }
+
+    @Test
+    void isVerified_PutWithExpiredParent_ReturnsFalse() throws Exception {
+        // given
+        mockEncoded();
+        when(child.getNotAfter()).thenReturn(FUTURE);
+        when(parent.getNotAfter()).thenReturn(PAST);
+        final String key = sut.linkKey(child, parent, CONTEXT).orElseThrow();
+        sut.putLink(key, child, parent);
+
+        // when-then
+        Assertions.assertFalse(sut.isVerified(key));
+    }
+
+    @Test
+    void isVerified_AfterClear_ReturnsFalse() throws Exception {
+        // given
+        mockEncoded();
+        when(child.getNotAfter()).thenReturn(FUTURE);
+        when(parent.getNotAfter()).thenReturn(FUTURE);
+        final String key = sut.linkKey(child, parent, CONTEXT).orElseThrow();
+        sut.putLink(key, child, parent);
+
+        // when
+        sut.clear();
+
+        // then
+        Assertions.assertFalse(sut.isVerified(key));
+    }
+
+    private void mockEncoded() throws Exception {
+        when(child.getEncoded()).thenReturn(new byte[]{1, 2, 3});
+        when(parent.getEncoded()).thenReturn(new byte[]{4, 5, 6});
+    }
+}
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.x509;
 
 import com.intel.bkp.verifier.Utils;
+import com.intel.bkp.verifier.exceptions.CertificateChainValidationException;
 import com.intel.bkp.verifier.model.AttestationOid;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -42,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
@@ -52,6 +54,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.intel.bkp.verifier.x509.X509CertificateChainVerifier.COMMON_EXTENSION_OIDS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -96,6 +100,9 @@ class X509CertificateChainVerifierTest {
     @Mock
     private X509CertificateCriticalExtensionsVerifier criticalExtensionsVerifier;
 
+    @Spy
+    private VerifiedLinkCache verifiedLinkCache = new VerifiedLinkCache();
+
     @InjectMocks
     private X509CertificateChainVerifier sut;
 
@@ -176,6 +183,82 @@ class X509CertificateChainVerifierTest {
         verify(criticalExtensionsVerifier).verify(rootCert, allOids);
     }
 
+    @Test
+    void verify_CalledTwice_SkipsChecksOfAlreadyVerifiedLinks() throws Exception {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        sut.verify();
+
+        // when
+        final boolean result = sut.verify();
+
+        // then
+        Assertions.assertTrue(result);
+        verify(certificateParentVerifier).verify(attestationCert, parentCert);
+        verify(certificateParentVerifier).verify(parentCert, rootCert);
+        verify(certificateParentVerifier).verify(rootCert, rootCert);
+        verifyNoMoreInteractions(certificateParentVerifier);
+    }
+
+    @Test
+    void verify_OtherVerifierSharingCache_SkipsChecksOfAlreadyVerifiedLinks() throws Exception {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        sut.verify();
+        final X509CertificateChainVerifier otherVerifier = new X509CertificateChainVerifier(
+            certificateParentVerifier, certificateValidityVerifier, certificateIssuerVerifier,
+            certificateAuthorityKeyIdentifierVerifier, certificateBasicConstraintsVerifier,
+            certificateKeyUsageVerifier, criticalExtensionsVerifier, verifiedLinkCache);
+
+        // when
+        final boolean result = otherVerifier.certificates(list).verify();
+
+        // then
+        Assertions.assertTrue(result);
+        verify(certificateParentVerifier).verify(attestationCert, parentCert);
+        verify(certificateParentVerifier).verify(parentCert, rootCert);
+        verify(certificateParentVerifier).verify(rootCert, rootCert);
+        verifyNoMoreInteractions(certificateParentVerifier);
+    }
+
+    @Test
+    void constructor_Default_UsesCacheSharedByAllVerifiers() {
+        // when
+        final X509CertificateChainVerifier verifier = new X509CertificateChainVerifier();
+
+        // then
+        Assertions.assertSame(VerifiedLinkCache.instance(), verifier.getVerifiedLinkCache());
+    }
+
+    @Test
+    void verify_CalledAgainAfterFailure_PerformsChecksAgain() throws Exception {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        doThrow(new CertificateChainValidationException("test")).doNothing()
+            .when(certificateParentVerifier).verify(attestationCert, parentCert);
+        sut.verify();
+
+        // when
+        final boolean result = sut.verify();
+
+        // then
+        Assertions.assertTrue(result);
+        verify(certificateParentVerifier, times(2)).verify(attestationCert, parentCert);
+    }
+
+    @Test
+    void verify_WithDifferentKnownExtensionOids_PerformsChecksAgain() throws Exception {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        sut.verify();
+
+        // when
+        sut.knownExtensionOids(Set.of("1.2.3.4")).verify();
+
+        // then
+        verify(certificateParentVerifier, times(2)).verify(attestationCert, parentCert);
+    }
+
     @Test
     void verify_With3CorrectCertificates_ReturnsTrue() {
         // given
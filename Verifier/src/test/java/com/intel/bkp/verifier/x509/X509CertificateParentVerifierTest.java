@@ -79,4 +79,13 @@ class X509CertificateParentVerifierTest {
         // when-then
         Assertions.assertThrows(CertificateChainValidationException.class, () -> sut.verify(parent, child));
     }
+
+    @Test
+    void verify_InvalidParentCalledTwice_ThrowsBothTimes() {
+        // given
+        Assertions.assertThrows(CertificateChainValidationException.class, () -> sut.verify(parent, child));
+
+        // when-then
+        Assertions.assertThrows(CertificateChainValidationException.class, () -> sut.verify(parent, child));
+    }
 }
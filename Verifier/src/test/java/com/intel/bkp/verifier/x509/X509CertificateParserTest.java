@@ -90,6 +90,47 @@ class X509CertificateParserTest {
         Assertions.assertEquals(CERT_SUBJECT, result.getSubjectDN().toString());
     }
 
+    @Test
+    void toX509_ParseCacheEnabled_ReturnsSameInstance() {
+        // given
+        X509CertificateParser.setParseCacheSize(10);
+
+        try {
+            // when
+            final X509Certificate first = sut.toX509(certificate);
+            final X509Certificate second = sut.toX509(certificate.clone());
+
+            // then
+            Assertions.assertSame(first, second);
+        } finally {
+            X509CertificateParser.setParseCacheSize(0);
+        }
+    }
+
+    @Test
+    void toX509_ParseCacheDisabled_ReturnsNewInstance() {
+        // when
+        final X509Certificate first = sut.toX509(certificate);
+        final X509Certificate second = sut.toX509(certificate);
+
+        // then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(first, second);
+    }
+
+    @Test
+    void toX509_ParseCacheEnabledAndParsingFailed_Throws() {
+        // given
+        X509CertificateParser.setParseCacheSize(10);
+
+        try {
+            // when-then
+            Assertions.assertThrows(X509ParsingException.class, () -> sut.toX509(new byte[]{1, 2}));
+        } finally {
+            X509CertificateParser.setParseCacheSize(0);
+        }
+    }
+
     @Test
     void toX509_ParsingFailed_Throws() {
         // when-then
@@ -83,4 +83,13 @@ class X509CrlParentVerifierTest {
         Assertions.assertThrows(X509ParsingException.class,
             () -> sut.verify(crl, CryptoUtils.genEcdsaBC().getPublic()));
     }
+
+    @Test
+    void verify_CalledTwice_Success() {
+        // given
+        sut.verify(crl, parentCert.getPublicKey());
+
+        // when
+        sut.verify(crl, parentCert.getPublicKey());
+    }
 }